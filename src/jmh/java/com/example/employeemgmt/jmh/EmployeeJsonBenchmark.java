@@ -0,0 +1,130 @@
+package com.example.employeemgmt.jmh;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.example.employeemgmt.DAO.EmployeeManager;
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.exception.IdNotFoundException;
+import com.example.employeemgmt.service.EmployeeService;
+import com.example.employeemgmt.validation.EmployeeValidator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Time and allocation of the POST/PUT/DELETE request work that EmployeeSerializer,
+ * EmployeeDeserializer, the constant delete reply and the stackless exceptions replaced. Each
+ * "streaming" or "current" benchmark has a "reflective" or "previous" twin doing the same work the
+ * way it was done before; run with -prof gc and compare gc.alloc.rate.norm between the two.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+
+    private static final ResponseEntity<String> ONE_ROW_DELETED = new ResponseEntity<>("Rows Deleted: 1", HttpStatus.OK);
+
+    /** The service exceptions as they were, filling in a stack trace on every throw. */
+    private static final class StackTraceIdNotFoundException extends RuntimeException {
+        StackTraceIdNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    private ObjectMapper streaming;
+    private ObjectMapper reflective;
+    private Employee employee;
+    private byte[] requestBody;
+    private EmployeeManager employeeManager;
+    private EmployeeService employeeService;
+    private int rowsDeleted;
+
+    @Setup
+    public void setup() throws IOException {
+        streaming = new ObjectMapper();
+        // With annotations ignored Employee goes through Jackson's reflective bean databinding.
+        reflective = JsonMapper.builder().disable(MapperFeature.USE_ANNOTATIONS).build();
+        employee = new Employee(42, "Min", "Rahm", "mrahm1@gmail.com", "Developer");
+        requestBody = "{\"id\":42,\"firstName\":\"Min\",\"lastName\":\"Rahm\",\"email\":\"mrahm1@gmail.com\",\"title\":\"Developer\"}"
+            .getBytes(StandardCharsets.UTF_8);
+        employeeManager = new EmployeeManager(new Employees(new ArrayList<>()));
+        employeeService = new EmployeeService(employeeManager, new EmployeeValidator());
+        rowsDeleted = 1;
+    }
+
+    // POST and PUT request bodies.
+    @Benchmark
+    public Employee readStreaming() throws IOException {
+        return streaming.readValue(requestBody, Employee.class);
+    }
+
+    @Benchmark
+    public Employee readReflective() throws IOException {
+        return reflective.readValue(requestBody, Employee.class);
+    }
+
+    // POST and PUT response bodies.
+    @Benchmark
+    public byte[] writeStreaming() throws IOException {
+        return streaming.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] writeReflective() throws IOException {
+        return reflective.writeValueAsBytes(employee);
+    }
+
+    // DELETE reply for one deleted row.
+    @Benchmark
+    public ResponseEntity<String> deleteReplyCurrent() {
+        return rowsDeleted == 1 ? ONE_ROW_DELETED : new ResponseEntity<>("Rows Deleted: " + rowsDeleted, HttpStatus.OK);
+    }
+
+    @Benchmark
+    public ResponseEntity<String> deleteReplyPrevious() {
+        return new ResponseEntity<>("Rows Deleted: " + rowsDeleted, HttpStatus.OK);
+    }
+
+    // DELETE of an unknown id, which ends in the service exception.
+    @Benchmark
+    public String deleteNotFoundCurrent() {
+        try {
+            employeeService.deleteEmployee(99);
+            return null;
+        } catch(IdNotFoundException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String deleteNotFoundPrevious() {
+        try {
+            if(!employeeManager.ifExists(99)) {
+                throw new StackTraceIdNotFoundException(IdNotFoundException.MESSAGE);
+            }
+            return null;
+        } catch(StackTraceIdNotFoundException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.employeemgmt.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.employeemgmt.DAO.EmployeeManager;
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.service.EmployeeService;
+import com.example.employeemgmt.validation.EmployeeValidator;
+
+/**
+ * Cost of EmployeeValidator on the write path. Validation alone is compared with the isBlank
+ * chain it replaced, and a full PUT through EmployeeService, which validates, with the same
+ * update made straight through EmployeeManager, which does not. The update writes the values
+ * already stored, so no history revision is added and runs stay comparable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeValidatorBenchmark {
+
+    private EmployeeValidator validator;
+    private EmployeeValidator titleValidator;
+    private EmployeeManager employeeManager;
+    private EmployeeService employeeService;
+    private Employee valid;
+    private Employee invalid;
+
+    @Setup
+    public void setup() {
+        validator = new EmployeeValidator();
+        titleValidator = new EmployeeValidator(List.of("Developer", "Project Manager", "Risk Analyst"));
+        employeeManager = new EmployeeManager(new Employees(new ArrayList<>()));
+        employeeService = new EmployeeService(employeeManager, validator);
+        valid = new Employee(1, "Min", "Rahm", "mrahm1@gmail.com", "Developer");
+        invalid = new Employee(1, " ", "Rahm", "not-an-email", "Developer");
+    }
+
+    @Benchmark
+    public List<String> validateValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public List<String> validateValidAllowedTitles() {
+        return titleValidator.validate(valid);
+    }
+
+    @Benchmark
+    public List<String> validateInvalid() {
+        return validator.validate(invalid);
+    }
+
+    // The check addEmployee made before EmployeeValidator.
+    @Benchmark
+    public boolean blankChecksPrevious() {
+        return valid.getId() != null && !valid.getFirstName().isBlank() && !valid.getLastName().isBlank()
+            && !valid.getEmail().isBlank() && !valid.getTitle().isBlank();
+    }
+
+    @Benchmark
+    public Employee updateValidated() {
+        return employeeService.updateEmployee(valid);
+    }
+
+    @Benchmark
+    public Employee updateUnvalidated() {
+        return employeeManager.ifExists(valid.getId()) ? employeeManager.updateEmployee(valid) : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.employeemgmt.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The ids of employees the load test has added and not yet deleted, so PUT, DELETE and
+ * get-by-id target employees that exist. Ids being deleted are taken out before the request
+ * is sent so two deletes never race for the same employee, and put back if the delete fails.
+ */
+final class IdPool {
+
+    private int[] ids = new int[1024];
+    private int size;
+
+    synchronized void add(int id) {
+        if(size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    // Returns a random id left in the pool, or -1 if it is empty.
+    synchronized int pick() {
+        return size == 0 ? -1 : ids[ThreadLocalRandom.current().nextInt(size)];
+    }
+
+    // Removes and returns a random id, or -1 if the pool is empty.
+    synchronized int take() {
+        if(size == 0) {
+            return -1;
+        }
+        int index = ThreadLocalRandom.current().nextInt(size);
+        int id = ids[index];
+        ids[index] = ids[--size];
+        return id;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.employeemgmt.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.employeemgmt.EmployeemgmtApplication;
+
+/**
+ * Boots the application on a random port and drives the /employees API with an open workload:
+ * requests are started on a fixed schedule whether or not earlier ones have finished, and
+ * latency is measured from the time a request was scheduled to start. A slow response therefore
+ * shows up in the latency of every request queued behind it instead of lowering the send rate,
+ * which avoids coordinated omission.
+ *
+ * Latencies are recorded per operation in HdrHistograms and written as a text summary, a CSV for
+ * comparing runs, and a full percentile distribution per operation.
+ */
+public final class LoadTestRunner {
+
+    private static final String DEFAULT_MIX = "get-all=5,get-by-id=45,post=20,put=20,delete=10";
+    private static final int FIRST_ID = 1_000_000;
+
+    /** The latencies and failures recorded for one operation. */
+    private static final class OperationStats {
+        final Histogram latencyMicros = new ConcurrentHistogram(3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final URI base;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Operation, Integer> mix;
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+    private final IdPool ids = new IdPool();
+    private final AtomicInteger nextId = new AtomicInteger(FIRST_ID);
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private long maxSchedulerLagNanos;
+
+    LoadTestRunner(URI base, double rate, Duration warmup, Duration duration, Map<Operation, Integer> mix) {
+        this.base = base;
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        for(Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        String mixText = System.getProperty("loadtest.mix", DEFAULT_MIX);
+        int roster = Integer.parseInt(System.getProperty("loadtest.roster", "1000"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01"));
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+
+        double errorRate;
+        ConfigurableApplicationContext context = SpringApplication.run(EmployeemgmtApplication.class,
+            "--server.port=0", "--logging.level.root=WARN");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestRunner runner = new LoadTestRunner(URI.create("http://localhost:" + port), rate, warmup, duration,
+                Operation.parseMix(mixText));
+            runner.seed(roster);
+            runner.run();
+            String header = String.format("Load test: %.0f requests/s, warmup %s, duration %s, mix %s, roster %d",
+                rate, warmup, duration, mixText, roster);
+            errorRate = runner.report(reportDir, header);
+        } finally {
+            context.close();
+        }
+        if(errorRate > maxErrorRate) {
+            System.err.printf("Error rate %.4f is above the limit of %.4f%n", errorRate, maxErrorRate);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    // Adds the starting roster one request at a time, outside of the measured run.
+    void seed(int roster) throws IOException, InterruptedException {
+        for(int i = 0; i < roster; i++) {
+            int id = nextId.getAndIncrement();
+            HttpResponse<Void> response = client.send(Operation.POST.request(base, id), HttpResponse.BodyHandlers.discarding());
+            if(response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding employee " + id + " failed with status " + response.statusCode());
+            }
+            ids.add(id);
+        }
+    }
+
+    // Sends requests on a fixed schedule until the warmup and measured run have passed, then waits for the stragglers.
+    void run() throws InterruptedException {
+        List<Operation> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for(int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        if(weighted.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no operations with a positive weight");
+        }
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        for(long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if(intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if(wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                maxSchedulerLagNanos = Math.max(maxSchedulerLagNanos, -wait);
+            }
+            send(weighted.get(ThreadLocalRandom.current().nextInt(weighted.size())), intended, intended >= measureFrom);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while(inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        if(inFlight.get() > 0) {
+            System.err.println(inFlight.get() + " requests were still in flight 60 seconds after the run ended");
+        }
+    }
+
+    private void send(Operation operation, long intended, boolean measured) {
+        int id = switch(operation) {
+            case POST -> nextId.getAndIncrement();
+            case DELETE -> ids.take();
+            default -> ids.pick();
+        };
+        if(id < 0 && operation != Operation.GET_ALL) {
+            operation = Operation.POST;
+            id = nextId.getAndIncrement();
+        }
+        Operation sent = operation;
+        int sentId = id;
+        inFlight.incrementAndGet();
+        client.sendAsync(sent.request(base, sentId), HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                long latencyNanos = System.nanoTime() - intended;
+                boolean ok = error == null && response.statusCode() < 400;
+                if(sent == Operation.POST && ok) {
+                    ids.add(sentId);
+                }
+                // A DELETE that failed leaves the employee in place, so its id goes back in the pool.
+                // A 404 means the employee is already gone.
+                if(sent == Operation.DELETE && (error != null
+                        || (response.statusCode() / 100 != 2 && response.statusCode() != 404))) {
+                    ids.add(sentId);
+                }
+                if(measured) {
+                    OperationStats operationStats = stats.get(sent);
+                    operationStats.latencyMicros.recordValue(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1));
+                    if(!ok) {
+                        operationStats.errors.increment();
+                    }
+                }
+                inFlight.decrementAndGet();
+            });
+    }
+
+    // Writes report.txt, report.csv and one percentile distribution per operation. Returns the overall error rate.
+    double report(Path reportDir, String header) throws IOException {
+        Files.createDirectories(reportDir);
+        double seconds = duration.toNanos() / 1e9;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        StringBuilder text = new StringBuilder(header).append(System.lineSeparator())
+            .append(String.format("Max scheduler lag %.1f ms, employees at end %d%n%n",
+                maxSchedulerLagNanos / 1e6, ids.size()))
+            .append(String.format("%-10s %9s %8s %8s %12s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "error%", "throughput/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        StringBuilder csv = new StringBuilder("operation,count,errors,error_rate,throughput_per_s,p50_ms,p99_ms,p999_ms,max_ms\n");
+        for(Operation operation : Operation.values()) {
+            OperationStats operationStats = stats.get(operation);
+            Histogram histogram = operationStats.latencyMicros.copy();
+            long errors = operationStats.errors.sum();
+            total.add(histogram);
+            totalErrors += errors;
+            appendRow(text, csv, operation.label(), histogram, errors, seconds);
+            try(PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(operation.label() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        appendRow(text, csv, "all", total, totalErrors, seconds);
+        Files.writeString(reportDir.resolve("report.txt"), text);
+        Files.writeString(reportDir.resolve("report.csv"), csv);
+        System.out.print(text);
+        return total.getTotalCount() == 0 ? 0 : (double) totalErrors / total.getTotalCount();
+    }
+
+    private static void appendRow(StringBuilder text, StringBuilder csv, String label, Histogram histogram, long errors, double seconds) {
+        long count = histogram.getTotalCount();
+        double errorRate = count == 0 ? 0 : (double) errors / count;
+        double p50 = histogram.getValueAtPercentile(50) / 1000.0;
+        double p99 = histogram.getValueAtPercentile(99) / 1000.0;
+        double p999 = histogram.getValueAtPercentile(99.9) / 1000.0;
+        double max = histogram.getMaxValue() / 1000.0;
+        text.append(String.format("%-10s %9d %8d %7.2f%% %12.1f %9.2f %9.2f %9.2f %9.2f%n",
+            label, count, errors, errorRate * 100, count / seconds, p50, p99, p999, max));
+        csv.append(String.format("%s,%d,%d,%.6f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+            label, count, errors, errorRate, count / seconds, p50, p99, p999, max));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.employeemgmt.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The requests the load test sends. The API has no single employee GET, so get-by-id reads
+ * "/employees/{id}/history", the one endpoint that returns a single record.
+ */
+enum Operation {
+    GET_ALL("get-all"),
+    GET_BY_ID("get-by-id"),
+    POST("post"),
+    PUT("put"),
+    DELETE("delete");
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    // Builds the request for this operation against the given employee id.
+    HttpRequest request(URI base, int id) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(TIMEOUT);
+        return switch(this) {
+            case GET_ALL -> builder.uri(base.resolve("/employees")).GET().build();
+            case GET_BY_ID -> builder.uri(base.resolve("/employees/" + id + "/history")).GET().build();
+            case POST -> builder.uri(base.resolve("/employees")).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(id, "Developer"))).build();
+            case PUT -> builder.uri(base.resolve("/employees")).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body(id, "Architect"))).build();
+            case DELETE -> builder.uri(base.resolve("/employees/" + id)).DELETE().build();
+        };
+    }
+
+    static String body(int id, String title) {
+        return "{\"id\":" + id + ",\"firstName\":\"Load" + id + "\",\"lastName\":\"Test\",\"email\":\"load" + id
+            + "@example.com\",\"title\":\"" + title + "\"}";
+    }
+
+    /**
+     * Parses a mix such as "get-all=5,post=20" into weights per operation. Operations left out get no traffic.
+     * @param mix
+     * @return The weight of each operation, in declaration order.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for(String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            if(pair.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like name=weight: " + part);
+            }
+            weights.put(byLabel(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    private static Operation byLabel(String label) {
+        for(Operation operation : values()) {
+            if(operation.label.equals(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + label);
+    }
+}
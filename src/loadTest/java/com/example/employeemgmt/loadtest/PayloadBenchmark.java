@@ -0,0 +1,134 @@
+package com.example.employeemgmt.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.employeemgmt.EmployeemgmtApplication;
+import com.example.employeemgmt.DAO.EmployeeManager;
+import com.example.employeemgmt.employee.Employee;
+
+/**
+ * Boots the application with the performance profile and measures GET /employees for growing
+ * rosters: bytes on the wire and latency, uncompressed and gzipped, over HTTP/1.1 and HTTP/2 (h2c).
+ * Rosters are filled through the EmployeeManager bean rather than over HTTP, as a million POSTs
+ * would dominate the run.
+ *
+ * The first gzipped request after each roster change is reported separately, as it is the one
+ * that builds the cached body.
+ */
+public final class PayloadBenchmark {
+
+    /** A way of fetching the roster: protocol and whether gzip is accepted. */
+    private enum Mode {
+        HTTP1_IDENTITY("http/1.1 identity", HttpClient.Version.HTTP_1_1, false),
+        HTTP1_GZIP("http/1.1 gzip", HttpClient.Version.HTTP_1_1, true),
+        HTTP2_IDENTITY("h2c identity", HttpClient.Version.HTTP_2, false),
+        HTTP2_GZIP("h2c gzip", HttpClient.Version.HTTP_2, true);
+
+        final String label;
+        final HttpClient client;
+        final boolean gzip;
+
+        Mode(String label, HttpClient.Version version, boolean gzip) {
+            this.label = label;
+            this.client = HttpClient.newBuilder().version(version).connectTimeout(Duration.ofSeconds(5)).build();
+            this.gzip = gzip;
+        }
+    }
+
+    private final URI roster;
+    private final int requests;
+
+    PayloadBenchmark(URI roster, int requests) {
+        this.roster = roster;
+        this.requests = requests;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = Arrays.stream(System.getProperty("payload.sizes", "10000,100000,1000000").split(","))
+            .mapToInt(size -> Integer.parseInt(size.trim())).toArray();
+        int requests = Integer.parseInt(System.getProperty("payload.requests", "20"));
+        Path reportDir = Path.of(System.getProperty("payload.reportDir", "build/reports/payload"));
+
+        ConfigurableApplicationContext context = SpringApplication.run(EmployeemgmtApplication.class,
+            "--server.port=0", "--logging.level.root=WARN", "--spring.profiles.active=performance",
+            "--employee.seed.enabled=false", "--employee.history.enabled=false");
+        StringBuilder text = new StringBuilder(String.format("GET /employees, %d requests per row%n%n", requests))
+            .append(String.format("%9s %-18s %8s %14s %12s %9s %9s %9s%n",
+                "employees", "mode", "protocol", "bytes on wire", "first ms", "p50 ms", "p99 ms", "max ms"));
+        StringBuilder csv = new StringBuilder("employees,mode,protocol,wire_bytes,first_ms,p50_ms,p99_ms,max_ms\n");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            PayloadBenchmark benchmark = new PayloadBenchmark(URI.create("http://localhost:" + port + "/employees"), requests);
+            EmployeeManager manager = context.getBean(EmployeeManager.class);
+            int id = 0;
+            for(int size : sizes) {
+                while(manager.size() < size) {
+                    id++;
+                    manager.addEmployee(new Employee(id, "First" + id, "Last" + id, "employee" + id + "@example.com", "Engineer"));
+                }
+                for(Mode mode : Mode.values()) {
+                    // Touch the roster so every mode starts from an empty cache.
+                    manager.updateEmployee(new Employee(1, "First1", "Last1", "employee1@example.com", "Engineer"));
+                    benchmark.measure(size, mode, text, csv);
+                }
+            }
+        } finally {
+            context.close();
+        }
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("report.txt"), text);
+        Files.writeString(reportDir.resolve("report.csv"), csv);
+        System.out.print(text);
+        System.exit(0);
+    }
+
+    // Fetches the roster once cold and then the configured number of times, and appends a row for the mode.
+    void measure(int size, Mode mode, StringBuilder text, StringBuilder csv) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(roster).timeout(Duration.ofMinutes(2)).GET();
+        if(mode.gzip) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        HttpRequest request = builder.build();
+        long start = System.nanoTime();
+        HttpResponse<byte[]> first = fetch(mode, request);
+        double firstMillis = (System.nanoTime() - start) / 1e6;
+        Histogram latencyMicros = new Histogram(3);
+        for(int i = 0; i < requests; i++) {
+            start = System.nanoTime();
+            fetch(mode, request);
+            latencyMicros.recordValue(Math.max(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), 1));
+        }
+        // HttpClient does not decode Content-Encoding, so the body length is what crossed the wire.
+        long wireBytes = first.body().length;
+        String protocol = first.version() == HttpClient.Version.HTTP_2 ? "h2c" : "http/1.1";
+        double p50 = latencyMicros.getValueAtPercentile(50) / 1000.0;
+        double p99 = latencyMicros.getValueAtPercentile(99) / 1000.0;
+        double max = latencyMicros.getMaxValue() / 1000.0;
+        text.append(String.format("%9d %-18s %8s %14d %12.2f %9.2f %9.2f %9.2f%n",
+            size, mode.label, protocol, wireBytes, firstMillis, p50, p99, max));
+        csv.append(String.format("%d,%s,%s,%d,%.3f,%.3f,%.3f,%.3f%n",
+            size, mode.label, protocol, wireBytes, firstMillis, p50, p99, max));
+    }
+
+    private static HttpResponse<byte[]> fetch(Mode mode, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = mode.client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if(response.statusCode() != 200) {
+            throw new IllegalStateException(mode.label + " GET /employees failed with status " + response.statusCode());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.employeemgmt.loadtest;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+
+import com.example.employeemgmt.DAO.EmployeeHistory;
+import com.example.employeemgmt.DAO.EmployeeManager;
+import com.example.employeemgmt.DAO.EmployeeSeedProperties;
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.employees.OffHeapEmployeeList;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * Compares how many employees each store configuration holds within a fixed heap, and the GC
+ * pauses it takes to get there. Each variant runs in its own JVM with the same -Xmx and adds
+ * employees through EmployeeManager until it reaches the limit or runs out of heap. The off-heap
+ * variants also get -XX:MaxDirectMemorySize, as their native segments would otherwise be capped at -Xmx.
+ *
+ * Variants: heap and off-heap store, each with history kept and with history disabled.
+ */
+public final class RosterCapacityBenchmark {
+
+    private static final String[] VARIANTS = {"heap+history", "heap", "offheap+history", "offheap"};
+
+    private static final AtomicLong gcCount = new AtomicLong();
+    private static final AtomicLong gcPauseMillis = new AtomicLong();
+    private static final AtomicLong maxGcPauseMillis = new AtomicLong();
+    private static long added;
+
+    public static void main(String[] args) throws Exception {
+        if(args.length == 2 && args[0].equals("--variant")) {
+            runVariant(args[1]);
+            return;
+        }
+        String heap = System.getProperty("capacity.heap", "512m");
+        String directMemory = System.getProperty("capacity.directMemory", "8g");
+        long limit = Long.parseLong(System.getProperty("capacity.limit", "20000000"));
+        Path reportDir = Path.of(System.getProperty("capacity.reportDir", "build/reports/capacity"));
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        StringBuilder text = new StringBuilder(String.format("Employees held with -Xmx%s (off-heap -XX:MaxDirectMemorySize=%s), limit %d%n%n", heap, directMemory, limit))
+            .append(String.format("%-16s %12s %9s %13s %14s %12s%n",
+                "variant", "employees", "outcome", "gc count", "gc pause ms", "max pause ms"));
+        StringBuilder csv = new StringBuilder("variant,employees,outcome,gc_count,gc_pause_ms,max_pause_ms\n");
+        for(String variant : VARIANTS) {
+            List<String> command = new ArrayList<>(List.of(java, "-Xmx" + heap, "-XX:+UseG1GC"));
+            if(variant.startsWith("offheap")) {
+                command.add("-XX:MaxDirectMemorySize=" + directMemory);
+            }
+            command.addAll(List.of("-Dcapacity.limit=" + limit, "-cp", System.getProperty("java.class.path"),
+                RosterCapacityBenchmark.class.getName(), "--variant", variant));
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            String result = new String(process.getInputStream().readAllBytes()).trim();
+            process.waitFor();
+            String[] fields = result.isEmpty() ? new String[] {variant, "0", "crashed", "0", "0", "0"} : result.split(",");
+            text.append(String.format("%-16s %12s %9s %13s %14s %12s%n", (Object[]) fields));
+            csv.append(String.join(",", fields)).append('\n');
+        }
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("report.txt"), text);
+        Files.writeString(reportDir.resolve("report.csv"), csv);
+        System.out.print(text);
+    }
+
+    // Fills one store configuration and prints a CSV row: variant, employees, outcome and GC totals.
+    private static void runVariant(String variant) throws IOException {
+        watchGc();
+        long limit = Long.parseLong(System.getProperty("capacity.limit", "20000000"));
+        String outcome = "limit";
+        try {
+            fill(variant, limit);
+        } catch(OutOfMemoryError e) {
+            outcome = "oom";
+        }
+        System.out.printf("%s,%d,%s,%d,%d,%d%n", variant, added, outcome,
+            gcCount.get(), gcPauseMillis.get(), maxGcPauseMillis.get());
+    }
+
+    private static void fill(String variant, long limit) {
+        boolean offHeap = variant.startsWith("offheap");
+        Employees employees = new Employees(offHeap ? new OffHeapEmployeeList(64L << 20) : new ArrayList<>());
+        EmployeeHistory history = new EmployeeHistory(Clock.systemUTC(), Duration.ofDays(30), variant.endsWith("+history"));
+        EmployeeManager manager = new EmployeeManager(employees, history, new EmployeeSeedProperties(false, null));
+        for(int id = 1; id <= limit; id++) {
+            manager.addEmployee(new Employee(id, "First" + id, "Last" + id, "employee" + id + "@example.com", "Engineer"));
+            added = id;
+        }
+    }
+
+    // Counts collections and their durations as reported by each collector.
+    private static void watchGc() {
+        for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) collector).addNotificationListener((notification, handback) -> {
+                if(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                    // G1 reports concurrent cycles as their own collector; only count the stop-the-world ones.
+                    if(!info.getGcName().contains("Concurrent")) {
+                        long duration = info.getGcInfo().getDuration();
+                        gcCount.incrementAndGet();
+                        gcPauseMillis.addAndGet(duration);
+                        maxGcPauseMillis.accumulateAndGet(duration, Math::max);
+                    }
+                }
+            }, null, null);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.example.employeemgmt.DAO;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employee.EmployeeRevision;
+
+/**
+ * Keeps the revision history of every employee record so past states can be looked up.
+ *
+ * Each record keeps an array of revision timestamps and, per field, a timeline holding only the
+ * revisions where that field changed. Looking up a record at a point in time is a binary search
+ * over its revisions followed by one binary search per field, so no history is replayed.
+ * Revisions older than the retention window are collapsed into a single base revision: for one
+ * record whenever it is written, and for all records by a scheduled sweep that takes the lock
+ * for a batch of records at a time, so writes never wait on a pass over the whole history.
+ *
+ * History lives on the heap, one record per employee ever stored. A disabled history records
+ * nothing, which is how EmployeeStoreConfig keeps the off-heap store free of a heap copy.
+ */
+public class EmployeeHistory {
+
+    public static final String CREATE = "CREATE";
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+
+    private static final String[] FIELD_NAMES = {"firstName", "lastName", "email", "title"};
+    private static final List<Function<Employee, String>> FIELDS = List.of(
+        Employee::getFirstName, Employee::getLastName, Employee::getEmail, Employee::getTitle);
+
+    private static final int PURGE_BATCH = 1024;
+
+    private final Clock clock;
+    private final Duration retention;
+    private final boolean enabled;
+    private final Map<Integer, RecordHistory> records = new LinkedHashMap<>();
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    /**
+     * Creates a history using the system clock.
+     * @param retention How long revisions are kept before being collapsed. Zero or negative keeps every revision.
+     */
+    public EmployeeHistory(Duration retention) {
+        this(Clock.systemUTC(), retention);
+    }
+
+    public EmployeeHistory(Clock clock, Duration retention) {
+        this(clock, retention, true);
+    }
+
+    /**
+     * Creates a history that can be switched off.
+     * @param clock
+     * @param retention How long revisions are kept before being collapsed. Zero or negative keeps every revision.
+     * @param enabled False to record nothing, so the history and asOf lookups are unavailable.
+     */
+    public EmployeeHistory(Clock clock, Duration retention, boolean enabled) {
+        this.clock = clock;
+        this.retention = retention;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Creates a history using the system clock and a 30 day retention window.
+     */
+    public EmployeeHistory() {
+        this(Duration.ofDays(30));
+    }
+
+    // Whether revisions are being recorded.
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Records a new employee with every field.
+    public synchronized void recordCreate(Employee employee) {
+        if(!enabled) {
+            return;
+        }
+        long now = tick();
+        RecordHistory record = touch(employee.getId());
+        if(record == null) {
+            records.put(employee.getId(), record = new RecordHistory());
+        }
+        record.append(now, CREATE, employee, true);
+    }
+
+    // Records the fields of an employee that differ from its latest revision.
+    public synchronized void recordUpdate(Employee employee) {
+        if(!enabled) {
+            return;
+        }
+        long now = tick();
+        RecordHistory record = touch(employee.getId());
+        if(record == null) {
+            records.put(employee.getId(), record = new RecordHistory());
+            record.append(now, CREATE, employee, true);
+        } else {
+            record.append(now, UPDATE, employee, false);
+        }
+    }
+
+    // Records that an employee was deleted.
+    public synchronized void recordDelete(Integer id) {
+        if(!enabled) {
+            return;
+        }
+        long now = tick();
+        RecordHistory record = touch(id);
+        if(record != null) {
+            record.append(now, DELETE, null, false);
+        }
+    }
+
+    /**
+     * Lists the retained revisions of an employee, oldest first.
+     * @param id
+     * @return The revisions, empty if the id has no retained history.
+     */
+    public synchronized List<EmployeeRevision> getHistory(Integer id) {
+        RecordHistory record = records.get(id);
+        if(record == null) {
+            return List.of();
+        }
+        List<EmployeeRevision> revisions = new ArrayList<>(record.size);
+        for(int i = 0; i < record.size; i++) {
+            revisions.add(record.revision(i));
+        }
+        return revisions;
+    }
+
+    /**
+     * Rebuilds every employee that existed at the given instant.
+     * @param asOf
+     * @return The employees as they looked at that instant, in the order they were first recorded.
+     */
+    public synchronized List<Employee> asOf(Instant asOf) {
+        long time = asOf.toEpochMilli();
+        List<Employee> employees = new ArrayList<>();
+        for(Map.Entry<Integer, RecordHistory> entry : records.entrySet()) {
+            Employee employee = entry.getValue().asOf(entry.getKey(), time);
+            if(employee != null) {
+                employees.add(employee);
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Collapses revisions older than the retention window and drops records deleted before it.
+     * Runs on a schedule, employee.history.purge-interval apart, and holds the lock for one batch
+     * of records at a time.
+     */
+    @Scheduled(fixedDelayString = "${employee.history.purge-interval:PT1M}")
+    public void purgeExpired() {
+        if(!enabled || retention.isZero() || retention.isNegative()) {
+            return;
+        }
+        Integer[] ids;
+        synchronized(this) {
+            ids = records.keySet().toArray(new Integer[0]);
+        }
+        for(int from = 0; from < ids.length; from += PURGE_BATCH) {
+            synchronized(this) {
+                for(int i = from; i < Math.min(from + PURGE_BATCH, ids.length); i++) {
+                    touch(ids[i]);
+                }
+            }
+        }
+    }
+
+    // Returns a timestamp that never goes backwards.
+    private long tick() {
+        lastTimestamp = Math.max(lastTimestamp, clock.millis());
+        return lastTimestamp;
+    }
+
+    // Purges one record's expired revisions and returns it, or null if it has none or nothing is left.
+    private RecordHistory touch(Integer id) {
+        RecordHistory record = records.get(id);
+        if(record == null || retention.isZero() || retention.isNegative()) {
+            return record;
+        }
+        if(!record.purgeBefore(clock.millis() - retention.toMillis())) {
+            records.remove(id);
+            return null;
+        }
+        return record;
+    }
+
+    /** The revisions of one employee record. */
+    private static final class RecordHistory {
+        private long[] times = new long[2];
+        private String[] operations = new String[2];
+        private int size;
+        private long baseVersion;
+        private final FieldTimeline[] fields = new FieldTimeline[FIELD_NAMES.length];
+
+        RecordHistory() {
+            for(int f = 0; f < fields.length; f++) {
+                fields[f] = new FieldTimeline();
+            }
+        }
+
+        void append(long time, String operation, Employee employee, boolean allFields) {
+            if(employee != null && !allFields && !changed(employee)) {
+                return;
+            }
+            if(size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                operations = Arrays.copyOf(operations, size * 2);
+            }
+            times[size] = time;
+            operations[size] = operation;
+            if(employee != null) {
+                for(int f = 0; f < fields.length; f++) {
+                    String value = FIELDS.get(f).apply(employee);
+                    if(allFields || !Objects.equals(value, fields[f].latest())) {
+                        fields[f].append(size, value);
+                    }
+                }
+            }
+            size++;
+        }
+
+        private boolean changed(Employee employee) {
+            for(int f = 0; f < fields.length; f++) {
+                if(!Objects.equals(FIELDS.get(f).apply(employee), fields[f].latest())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        EmployeeRevision revision(int index) {
+            Map<String, String> changes = new LinkedHashMap<>();
+            for(int f = 0; f < fields.length; f++) {
+                int entry = fields[f].find(index);
+                if(entry >= 0 && fields[f].revisions[entry] == index) {
+                    changes.put(FIELD_NAMES[f], fields[f].values[entry]);
+                }
+            }
+            return new EmployeeRevision(baseVersion + index + 1, Instant.ofEpochMilli(times[index]), operations[index], changes);
+        }
+
+        Employee asOf(Integer id, long time) {
+            int index = lastAtOrBefore(time);
+            if(index < 0 || DELETE.equals(operations[index])) {
+                return null;
+            }
+            return new Employee(id, fields[0].valueAt(index), fields[1].valueAt(index),
+                fields[2].valueAt(index), fields[3].valueAt(index));
+        }
+
+        // Drops revisions before the cutoff, keeping the last of them as the base. Returns false if nothing is left.
+        boolean purgeBefore(long cutoff) {
+            int base = lastAtOrBefore(cutoff - 1);
+            if(base < 0) {
+                return true;
+            }
+            if(DELETE.equals(operations[base])) {
+                base++;
+            }
+            if(base >= size) {
+                return false;
+            }
+            if(base == 0) {
+                return true;
+            }
+            times = Arrays.copyOfRange(times, base, Math.max(size, base + 2));
+            operations = Arrays.copyOfRange(operations, base, Math.max(size, base + 2));
+            size -= base;
+            baseVersion += base;
+            for(FieldTimeline field : fields) {
+                field.rebase(base);
+            }
+            return true;
+        }
+
+        private int lastAtOrBefore(long time) {
+            int low = 0;
+            int high = size - 1;
+            while(low <= high) {
+                int mid = (low + high) >>> 1;
+                if(times[mid] <= time) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+    }
+
+    /** The values one field took, keyed by the revision index that set them. */
+    private static final class FieldTimeline {
+        private int[] revisions = new int[1];
+        private String[] values = new String[1];
+        private int size;
+
+        void append(int revision, String value) {
+            if(size == revisions.length) {
+                revisions = Arrays.copyOf(revisions, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            revisions[size] = revision;
+            values[size] = value;
+            size++;
+        }
+
+        String latest() {
+            return size == 0 ? null : values[size - 1];
+        }
+
+        String valueAt(int revision) {
+            int entry = find(revision);
+            return entry < 0 ? null : values[entry];
+        }
+
+        // Index of the last entry set at or before the revision, or -1.
+        int find(int revision) {
+            int low = 0;
+            int high = size - 1;
+            while(low <= high) {
+                int mid = (low + high) >>> 1;
+                if(revisions[mid] <= revision) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        // Makes the given revision index the new zero, keeping the value in effect at it.
+        void rebase(int base) {
+            int first = find(base);
+            if(first < 0) {
+                first = 0;
+            }
+            int kept = size - first;
+            int[] newRevisions = new int[Math.max(kept, 1)];
+            String[] newValues = new String[Math.max(kept, 1)];
+            for(int i = 0; i < kept; i++) {
+                newRevisions[i] = Math.max(revisions[first + i] - base, 0);
+                newValues[i] = values[first + i];
+            }
+            revisions = newRevisions;
+            values = newValues;
+            size = kept;
+        }
+    }
+}
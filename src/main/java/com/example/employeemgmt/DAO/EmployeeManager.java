@@ -1,84 +1,184 @@
 package com.example.employeemgmt.DAO;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employee.EmployeeRevision;
+import com.example.employeemgmt.employees.EmployeeStats;
 import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.employees.OffHeapEmployeeList;
+import com.example.employeemgmt.jfr.EmployeeStoreEvent;
 
-/** A DAO class that facilitates data handling.*/
+/**
+ * A DAO class that facilitates data handling. Methods are synchronized so the list, its history
+ * and its statistics are always changed together. Reads and writes of single employees are
+ * timed as EmployeeStoreEvents for JFR.
+ */
 @Repository
 public class EmployeeManager {
     
     /**
-     * A sample list of employees are created for initialization.
+     * An empty list is seeded with the employees configured by EmployeeSeedProperties,
+     * the sample employees by default.
      */
     private final Employees employees;
+    private final EmployeeHistory history;
+    private final EmployeeStatistics statistics = new EmployeeStatistics();
+    private long version;
     @Autowired
-    public EmployeeManager(Employees employees) {
+    public EmployeeManager(Employees employees, EmployeeHistory history, EmployeeSeedProperties seed) {
         this.employees = employees;
+        this.history = history;
         if(employees.getEmployeeList().isEmpty()) {
-            employees.getEmployeeList().add(new Employee(1, "Min", "Rahm", "mrahm1@gmail.com", "Developer"));
-            employees.getEmployeeList().add(new Employee(2, "Suga", "Sally", "ssalt1@gmail.com", "Project Manager"));
-            employees.getEmployeeList().add(new Employee(3, "Summer", "Winnie", "summawin@gmail.com", "Risk Analyst"));
+            employees.getEmployeeList().addAll(seed.seedEmployees());
         }
+        for(Employee emp : employees.getEmployeeList()) {
+            history.recordCreate(emp);
+            statistics.add(emp);
+        }
+    }
+
+    public EmployeeManager(Employees employees, EmployeeHistory history) {
+        this(employees, history, EmployeeSeedProperties.defaults());
     }
 
-    // DAO method to return all employees.
-    public Employees getAllEmployees() {
-        return employees;
+    public EmployeeManager(Employees employees) {
+        this(employees, new EmployeeHistory());
+    }
+
+    // DAO method to return a snapshot of all employees, taken under the lock so it can be serialized while writes go on.
+    // The off-heap store only copies its slot offsets and decodes employees outside the lock as they are read.
+    public synchronized Employees getAllEmployees() {
+        if(employees.getEmployeeList() instanceof OffHeapEmployeeList offHeap) {
+            return new Employees(offHeap.snapshot());
+        }
+        return new Employees(new ArrayList<>(employees.getEmployeeList()));
     }
 
     // DAO method to add a new employee.
-    public Employee addEmployee(Employee employeeToAdd) {
+    public synchronized Employee addEmployee(Employee employeeToAdd) {
+        EmployeeStoreEvent event = EmployeeStoreEvent.start();
         employees.getEmployeeList().add(employeeToAdd);
+        history.recordCreate(employeeToAdd);
+        statistics.add(employeeToAdd);
+        version++;
+        event.finish("ADD", employeeToAdd.getId(), "OK", employees.getEmployeeList().size());
         return employeeToAdd;
     }
 
     // DAO method to delete an employee.
-    public void deleteEmployee(Integer id) {
-        Employee employeeToDelete = findById(id);
-        employees.getEmployeeList().remove(employeeToDelete);
+    public synchronized void deleteEmployee(Integer id) {
+        EmployeeStoreEvent event = EmployeeStoreEvent.start();
+        int index = indexOf(id);
+        if(index >= 0) {
+            Employee employeeToDelete = employees.getEmployeeList().remove(index);
+            history.recordDelete(id);
+            statistics.remove(employeeToDelete);
+            version++;
+        }
+        event.finish("DELETE", id, outcome(index), employees.getEmployeeList().size());
     }
 
     // DAO method to update an employee and return the employee object with updated details.
-    public Employee updateEmployee(Employee employeeToUpdate) {
-        Employee updatedEmployee = findById(employeeToUpdate.getId());
-        if(updatedEmployee == null) {
+    public synchronized Employee updateEmployee(Employee employeeToUpdate) {
+        EmployeeStoreEvent event = EmployeeStoreEvent.start();
+        int index = indexOf(employeeToUpdate.getId());
+        if(index < 0) {
+            event.finish("UPDATE", employeeToUpdate.getId(), outcome(index), employees.getEmployeeList().size());
             return null;
         }
-        updatedEmployee.setFirstName(employeeToUpdate.getFirstName());
-        updatedEmployee.setLastName(employeeToUpdate.getLastName());
-        updatedEmployee.setEmail(employeeToUpdate.getEmail());
-        updatedEmployee.setTitle(employeeToUpdate.getTitle());
+        // The stored instance is replaced rather than changed, so snapshots already handed out stay as they were.
+        Employee updatedEmployee = new Employee(employeeToUpdate.getId(), employeeToUpdate.getFirstName(),
+            employeeToUpdate.getLastName(), employeeToUpdate.getEmail(), employeeToUpdate.getTitle());
+        Employee previous = employees.getEmployeeList().set(index, updatedEmployee);
+        statistics.remove(previous);
+        history.recordUpdate(updatedEmployee);
+        statistics.add(updatedEmployee);
+        version++;
+        event.finish("UPDATE", employeeToUpdate.getId(), outcome(index), employees.getEmployeeList().size());
         return updatedEmployee;
     }
 
-    // DAO method to find an employee by id.
-    public Employee findById(Integer id) {
-        for( Employee emp : employees.getEmployeeList()) {
-            if(emp.getId() == id) {
-                return emp;
-            }
-        } return null;
+    // DAO method to return every employee as they were at a past instant.
+    public synchronized Employees getAllEmployeesAsOf(Instant asOf) {
+        return new Employees(history.asOf(asOf));
+    }
 
+    // DAO method to tell whether revisions are recorded, which the history and asOf lookups need.
+    public boolean isHistoryEnabled() {
+        return history.isEnabled();
+    }
+
+    // DAO method to return the retained revisions of an employee, oldest first.
+    public synchronized List<EmployeeRevision> getHistory(Integer id) {
+        return history.getHistory(id);
+    }
+
+    // DAO method to return a consistent copy of the per title and per email domain counts.
+    public synchronized EmployeeStats getStats() {
+        return statistics.snapshot();
+    }
+
+    // DAO method to count employees with a title in O(1).
+    public synchronized long countByTitle(String title) {
+        return statistics.countByTitle(title);
+    }
+
+    // DAO method to count employees with an email domain in O(1).
+    public synchronized long countByEmailDomain(String domain) {
+        return statistics.countByEmailDomain(domain);
+    }
+
+    // DAO method to find an employee by id.
+    public synchronized Employee findById(Integer id) {
+        EmployeeStoreEvent event = EmployeeStoreEvent.start();
+        int index = indexOf(id);
+        event.finish("FIND", id, outcome(index), employees.getEmployeeList().size());
+        return index < 0 ? null : employees.getEmployeeList().get(index);
     }
 
     // DAO method to validate wheather an employee exists.
-    public Boolean ifExists(Employee employee) {
-        for(Employee emp : employees.getEmployeeList()) {
-            if(emp.getId() == employee.getId()) {
-                return true;
-            }
-        } return false;
+    public synchronized Boolean ifExists(Employee employee) {
+        return ifExists(employee.getId());
     }
 
     // Overloaded DAO method to validate wheather an employee exists by id.
-    public Boolean ifExists(Integer id) {
-        for( Employee emp : employees.getEmployeeList()) {
-            if(emp.getId() == id) {
-                return true;
-            }
-        } return false;
+    public synchronized Boolean ifExists(Integer id) {
+        EmployeeStoreEvent event = EmployeeStoreEvent.start();
+        int index = indexOf(id);
+        event.finish("EXISTS", id, outcome(index), employees.getEmployeeList().size());
+        return index >= 0;
+    }
+
+    // DAO method to get a number that changes whenever an employee is added, updated or deleted.
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    // DAO method to get the current number of employees.
+    public synchronized int size() {
+        return employees.getEmployeeList().size();
+    }
 
+    private static String outcome(int index) {
+        return index < 0 ? "NOT_FOUND" : "OK";
+    }
+
+    // Finds the position of an employee by id, through the off-heap index when there is one.
+    private int indexOf(Integer id) {
+        List<Employee> employeeList = employees.getEmployeeList();
+        if(employeeList instanceof OffHeapEmployeeList offHeap) {
+            return offHeap.indexOfId(id);
+        }
+        for(int i = 0; i < employeeList.size(); i++) {
+            if(Objects.equals(employeeList.get(i).getId(), id)) {
+                return i;
+            }
+        } return -1;
     }
 }
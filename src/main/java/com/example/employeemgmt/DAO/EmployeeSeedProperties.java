@@ -0,0 +1,43 @@
+package com.example.employeemgmt.DAO;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.example.employeemgmt.employee.Employee;
+
+/**
+ * Configures the employees EmployeeManager starts with when its list is empty. Bound from the
+ * "employee.seed" properties; when seeding is enabled and no employees are listed, the three
+ * sample employees are used.
+ * @param enabled Whether to seed an empty list at all.
+ * @param employees The employees to seed with, in order.
+ */
+@ConfigurationProperties("employee.seed")
+public record EmployeeSeedProperties(@DefaultValue("true") boolean enabled, List<Employee> employees) {
+
+    /**
+     * Returns the employees to seed, a fresh copy each call as the list takes ownership of them.
+     * @return The configured employees, the sample employees if none are configured, or nothing if seeding is disabled.
+     */
+    public List<Employee> seedEmployees() {
+        if(!enabled) {
+            return List.of();
+        }
+        if(employees == null || employees.isEmpty()) {
+            return List.of(
+                new Employee(1, "Min", "Rahm", "mrahm1@gmail.com", "Developer"),
+                new Employee(2, "Suga", "Sally", "ssalt1@gmail.com", "Project Manager"),
+                new Employee(3, "Summer", "Winnie", "summawin@gmail.com", "Risk Analyst"));
+        }
+        return employees.stream()
+            .map(e -> new Employee(e.getId(), e.getFirstName(), e.getLastName(), e.getEmail(), e.getTitle()))
+            .toList();
+    }
+
+    // Seeds with the sample employees.
+    public static EmployeeSeedProperties defaults() {
+        return new EmployeeSeedProperties(true, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.employeemgmt.DAO;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employees.EmployeeStats;
+
+/**
+ * Counts of employees per title and per email domain, updated as employees are added, changed
+ * and removed so each count can be read without scanning the list. Not thread safe on its own;
+ * EmployeeManager updates it under the same lock as the list it describes.
+ */
+public class EmployeeStatistics {
+
+    private long total;
+    private final Map<String, Long> byTitle = new HashMap<>();
+    private final Map<String, Long> byEmailDomain = new HashMap<>();
+    private final HyperLogLog firstNames = new HyperLogLog();
+    private final HyperLogLog lastNames = new HyperLogLog();
+
+    // Counts an employee that was added to the store.
+    public void add(Employee employee) {
+        total++;
+        increment(byTitle, employee.getTitle(), 1);
+        increment(byEmailDomain, emailDomain(employee.getEmail()), 1);
+        firstNames.add(employee.getFirstName());
+        lastNames.add(employee.getLastName());
+    }
+
+    // Uncounts an employee that was removed from the store, or is about to be changed.
+    public void remove(Employee employee) {
+        total--;
+        increment(byTitle, employee.getTitle(), -1);
+        increment(byEmailDomain, emailDomain(employee.getEmail()), -1);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long countByTitle(String title) {
+        return byTitle.getOrDefault(title, 0L);
+    }
+
+    public long countByEmailDomain(String domain) {
+        return byEmailDomain.getOrDefault(domain.toLowerCase(Locale.ROOT), 0L);
+    }
+
+    // Copies the current counts, sorted by key.
+    public EmployeeStats snapshot() {
+        return new EmployeeStats(total, new TreeMap<>(byTitle), new TreeMap<>(byEmailDomain),
+            firstNames.estimate(), lastNames.estimate());
+    }
+
+    // Returns the lower cased part of the email after the last @, or null if there is none.
+    static String emailDomain(String email) {
+        if(email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 || at == email.length() - 1 ? null : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static void increment(Map<String, Long> counts, String key, long delta) {
+        if(key == null) {
+            return;
+        }
+        counts.merge(key, delta, (current, change) -> current + change == 0 ? null : current + change);
+    }
+}
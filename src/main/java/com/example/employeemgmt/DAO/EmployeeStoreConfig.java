@@ -0,0 +1,51 @@
+package com.example.employeemgmt.DAO;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.employees.OffHeapEmployeeList;
+
+/**
+ * Chooses the list backing the Employees store. "heap" keeps employees in an ArrayList;
+ * "offheap" keeps them in an OffHeapEmployeeList, in native memory or, when a file is
+ * configured, in a memory-mapped file.
+ *
+ * Also creates the EmployeeHistory. History is kept on the heap, so unless employee.history.enabled
+ * says otherwise it is switched off with the off-heap store, giving up the history and asOf
+ * endpoints for a roster that costs no heap.
+ */
+@Configuration
+public class EmployeeStoreConfig {
+
+    @Bean
+    public Employees employees(@Value("${employee.store.type:heap}") String type,
+            @Value("${employee.store.offheap.file:}") String file,
+            @Value("${employee.store.offheap.initial-bytes:1048576}") long initialBytes) throws IOException {
+        switch(type.toLowerCase()) {
+            case "heap":
+                return new Employees(new ArrayList<>());
+            case "offheap":
+                return new Employees(file.isBlank()
+                    ? new OffHeapEmployeeList(initialBytes)
+                    : OffHeapEmployeeList.mapped(Path.of(file), initialBytes));
+            default:
+                throw new IllegalArgumentException("Unknown employee.store.type: " + type);
+        }
+    }
+
+    @Bean
+    public EmployeeHistory employeeHistory(@Value("${employee.store.type:heap}") String type,
+            @Value("${employee.history.enabled:}") String enabled,
+            @Value("${employee.history.retention:P30D}") Duration retention) {
+        boolean keepHistory = enabled.isBlank() ? !"offheap".equalsIgnoreCase(type) : Boolean.parseBoolean(enabled);
+        return new EmployeeHistory(Clock.systemUTC(), retention, keepHistory);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.employeemgmt.DAO;
+
+/**
+ * A HyperLogLog sketch for estimating the number of distinct strings seen. Uses 2^12 one byte
+ * registers for a standard error of about 1.6%. The register sum is kept up to date on every add
+ * so reading the estimate is O(1). Values can only be added, never removed.
+ */
+public final class HyperLogLog {
+
+    private static final int PRECISION = 12;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers = new byte[REGISTER_COUNT];
+    private double inverseSum = REGISTER_COUNT;
+    private int zeroRegisters = REGISTER_COUNT;
+
+    // Adds a value to the sketch, ignoring nulls.
+    public void add(String value) {
+        if(value == null) {
+            return;
+        }
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        int current = registers[index];
+        if(rank > current) {
+            if(current == 0) {
+                zeroRegisters--;
+            }
+            inverseSum += Math.scalb(1.0, -rank) - Math.scalb(1.0, -current);
+            registers[index] = (byte) rank;
+        }
+    }
+
+    // Returns the estimated number of distinct values added.
+    public long estimate() {
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / inverseSum;
+        if(estimate <= 2.5 * REGISTER_COUNT && zeroRegisters > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    // 64 bit FNV-1a over the characters followed by a murmur3 finalizer to spread the bits.
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for(int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employeemgmt.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Sizes the Tomcat socket and application buffers for large responses such as the full roster.
+ * Boot has no server.tomcat properties for these, so they are set on the connector directly.
+ * A size of 0, the default, leaves Tomcat's own value in place.
+ */
+@Configuration
+public class ConnectorConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> connectorBuffers(
+            @Value("${employee.connector.socket-buffer:0}") DataSize socketBuffer,
+            @Value("${employee.connector.app-write-buffer:0}") DataSize appWriteBuffer) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            if(socketBuffer.toBytes() > 0) {
+                connector.setProperty("socket.txBufSize", String.valueOf(socketBuffer.toBytes()));
+                connector.setProperty("socket.rxBufSize", String.valueOf(socketBuffer.toBytes()));
+            }
+            if(appWriteBuffer.toBytes() > 0) {
+                connector.setProperty("socket.appWriteBufSize", String.valueOf(appWriteBuffer.toBytes()));
+            }
+        });
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.employeemgmt.controller;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,11 +14,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.employeemgmt.employee.Employee;
-import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.employee.EmployeeRevision;
+import com.example.employeemgmt.employees.EmployeeStats;
 import com.example.employeemgmt.exception.IdExistsException;
 import com.example.employeemgmt.exception.IdNotFoundException;
 import com.example.employeemgmt.exception.InvalidInputException;
@@ -25,23 +33,107 @@ import com.example.employeemgmt.service.EmployeeService;
 @RestController
 @RequestMapping("/employees")
 public class EmployeeController {
+
+    // Constant replies are built once and reused instead of being concatenated per request.
+    private static final ResponseEntity<String> ONE_ROW_DELETED = new ResponseEntity<>("Rows Deleted: 1", HttpStatus.OK);
+    private static final String NO_ROWS_DELETED = "\nRows Deleted: 0";
+    private static final ResponseEntity<String> ID_NOT_FOUND_DELETED = new ResponseEntity<>(IdNotFoundException.MESSAGE + NO_ROWS_DELETED, HttpStatus.NOT_FOUND);
     
     private final EmployeeService employeeService;
+    private final IdempotencyStore idempotencyStore;
+    private final RosterResponseCache rosterCache;
 
-    // Injecting service class using @Autowired.
+    // Injecting service class, the store of idempotent responses and the roster cache using @Autowired.
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, IdempotencyStore idempotencyStore, RosterResponseCache rosterCache) {
         this.employeeService = employeeService;
+        this.idempotencyStore = idempotencyStore;
+        this.rosterCache = rosterCache;
     }
 
     /**
      * Method to map incoming GET requests to "/employees".
-     * @return A list of all employees and status code 200.
+     * @param asOf Optional ISO-8601 instant to return the employees as they were at that time.
+     * @return A list of all employees and status code 200, or status code 400 for asOf when history is disabled.
+     * With the roster cache enabled the current list carries an ETag, a matching If-None-Match gets 304,
+     * and clients accepting gzip get the cached compressed body.
      */
     @GetMapping
-    public ResponseEntity<Employees> getAllEmployees() {
-        Employees employees =  employeeService.getAllEmployees();
-        return new ResponseEntity<>(employees, HttpStatus.OK);
+    public ResponseEntity<?> getAllEmployees(@RequestParam(required = false) Instant asOf,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if(asOf != null) {
+            try{
+                return new ResponseEntity<>(employeeService.getAllEmployees(asOf), HttpStatus.OK);
+            } catch(InvalidInputException i) {
+                return new ResponseEntity<>(i.getMessage(), HttpStatus.BAD_REQUEST);
+            }
+        }
+        if(!rosterCache.isEnabled()) {
+            return new ResponseEntity<>(employeeService.getAllEmployees(), HttpStatus.OK);
+        }
+        boolean gzip = rosterCache.acceptsGzip(acceptEncoding);
+        String etag = rosterCache.etag(employeeService.getRosterVersion(), gzip);
+        if(rosterCache.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        if(!gzip) {
+            return ResponseEntity.ok().eTag(etag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .body(employeeService.getAllEmployees());
+        }
+        // Content-Encoding is set here so the connector does not compress the body a second time.
+        RosterResponseCache.Body body = rosterCache.gzipped(employeeService::getRosterVersion, employeeService::getAllEmployees);
+        return ResponseEntity.ok().eTag(rosterCache.etag(body.version(), true))
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body.gzip());
+    }
+
+    /**
+     * Method to map GET requests to "/employees/stats".
+     * @return The employee counts per title and email domain and status code 200.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<EmployeeStats> getStats() {
+        return new ResponseEntity<>(employeeService.getStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Method to map GET requests to "/employees/stats/titles/{title}".
+     * @param title
+     * @return The number of employees with the title and status code 200.
+     */
+    @GetMapping("/stats/titles/{title}")
+    public ResponseEntity<Long> countByTitle(@PathVariable String title) {
+        return new ResponseEntity<>(employeeService.countByTitle(title), HttpStatus.OK);
+    }
+
+    /**
+     * Method to map GET requests to "/employees/stats/domains/{domain}".
+     * @param domain
+     * @return The number of employees with an email at the domain and status code 200.
+     */
+    @GetMapping("/stats/domains/{domain}")
+    public ResponseEntity<Long> countByEmailDomain(@PathVariable String domain) {
+        return new ResponseEntity<>(employeeService.countByEmailDomain(domain), HttpStatus.OK);
+    }
+
+    /**
+     * Method to map GET requests to "/employees/{id}/history".
+     * @param id
+     * @return The revisions of the employee, oldest first, and status code 200.
+     * @throws IdNotFoundException If the id has no history and status code 404.
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<?> getEmployeeHistory(@PathVariable Integer id) throws IdNotFoundException {
+        try{
+            List<EmployeeRevision> history = employeeService.getEmployeeHistory(id);
+            return new ResponseEntity<>(history, HttpStatus.OK);
+        } catch(IdNotFoundException i) {
+            return new ResponseEntity<>(i.getMessage(), HttpStatus.NOT_FOUND);
+        }
     }
 
     /**
@@ -50,9 +142,16 @@ public class EmployeeController {
      * @return Employee object if operation successful and status code 200.
      * @throws InvalidInputException If some fields are empty and status code 400.
      * @throws IdExistsException If id already exists in system and status code 400.
+     * A retry with the same Idempotency-Key header gets the original response without adding again.
      */
     @PostMapping
-    public ResponseEntity<?> addEmployee(@RequestBody Employee employee) throws InvalidInputException, IdExistsException{
+    public ResponseEntity<?> addEmployee(@RequestBody Employee employee,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey) throws InvalidInputException, IdExistsException{
+        return idempotencyStore.execute(idempotencyKey, "POST /employees", employee, () -> add(employee));
+    }
+
+    // Adds the employee and maps the service exceptions to 400 responses.
+    private ResponseEntity<?> add(Employee employee) {
         try{
         Employee addedEmployee = employeeService.addEmployee(employee);
         
@@ -74,9 +173,15 @@ public class EmployeeController {
     public ResponseEntity<String> deleteEmployeeById(@PathVariable Integer id) throws IdNotFoundException{
         try{
             Integer rowsDeleted = employeeService.deleteEmployee(id);
+            if(rowsDeleted != null && rowsDeleted == 1) {
+                return ONE_ROW_DELETED;
+            }
             return new ResponseEntity<>("Rows Deleted: " + rowsDeleted, HttpStatus.OK);
         } catch(IdNotFoundException i ) {
-            return new ResponseEntity<>(i.getMessage() + "\nRows Deleted: " + 0, HttpStatus.NOT_FOUND);
+            if(IdNotFoundException.MESSAGE.equals(i.getMessage())) {
+                return ID_NOT_FOUND_DELETED;
+            }
+            return new ResponseEntity<>(i.getMessage() + NO_ROWS_DELETED, HttpStatus.NOT_FOUND);
         }
     }
 
@@ -85,15 +190,25 @@ public class EmployeeController {
      * @param employee
      * @return The employee object with updated fields as confirmation and HTTP status OK.
      * @throws IdNotFoundException If id could not be found and sends 404 status code.
+     * @throws InvalidInputException If some fields are invalid and status code 400.
+     * A retry with the same Idempotency-Key header gets the original response without updating again.
      */
     @PutMapping
-    public ResponseEntity<?> updateEmployee(@RequestBody Employee employee) throws IdNotFoundException{
+    public ResponseEntity<?> updateEmployee(@RequestBody Employee employee,
+            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey) throws IdNotFoundException, InvalidInputException{
+        return idempotencyStore.execute(idempotencyKey, "PUT /employees", employee, () -> update(employee));
+    }
+
+    // Updates the employee and maps the service exceptions to 404 and 400 responses.
+    private ResponseEntity<?> update(Employee employee) {
         try{
 
         Employee updatedEmployee = employeeService.updateEmployee(employee);
         return new ResponseEntity<>(updatedEmployee, HttpStatus.OK);
         } catch (IdNotFoundException i) {
             return new ResponseEntity<>(i.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (InvalidInputException i) {
+            return new ResponseEntity<>(i.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
 }
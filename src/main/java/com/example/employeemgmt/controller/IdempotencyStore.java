@@ -0,0 +1,162 @@
+package com.example.employeemgmt.controller;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.example.employeemgmt.employee.Employee;
+
+/**
+ * Remembers the responses of requests sent with an Idempotency-Key header so a client retry gets
+ * the original response back instead of running the request again. Concurrent requests with the
+ * same key wait on the first one rather than running alongside it, for a bounded time after
+ * which they are answered with 409 so the client can retry later.
+ *
+ * Entries expire after a fixed time to live and the oldest are evicted once the store is full.
+ * An entry whose request is still running is never evicted, so the store can run over its
+ * capacity while that many requests are in flight. Reusing a key with a different request body
+ * is rejected with 422.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final ResponseEntity<String> IN_PROGRESS =
+        new ResponseEntity<>("Request With This Idempotency-Key Is Still In Progress.", HttpStatus.CONFLICT);
+
+    /** A remembered request: the body it was sent with and its response, complete once it has run. */
+    private record Entry(String key, String fingerprint, CompletableFuture<ResponseEntity<?>> response, long expiresAt) {}
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long waitMillis;
+
+    @Autowired
+    public IdempotencyStore(@Value("${employee.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${employee.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${employee.idempotency.wait-timeout:PT10S}") Duration waitTimeout) {
+        this(Clock.systemUTC(), ttl, maxEntries, waitTimeout);
+    }
+
+    public IdempotencyStore(Clock clock, Duration ttl, int maxEntries, Duration waitTimeout) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.waitMillis = waitTimeout.toMillis();
+    }
+
+    /**
+     * Runs the action once per key and scope, replaying its response for later requests with the same key.
+     * @param key The Idempotency-Key header, or null to always run the action.
+     * @param scope The method and path the key applies to, so one key can not replay another endpoint.
+     * @param request The request body, compared against the original to catch reused keys.
+     * @param action Produces the response.
+     * @return The response of the action, the remembered response marked with Idempotent-Replayed, 422 if the key was reused,
+     * or 409 if the original request is still running after employee.idempotency.wait-timeout.
+     */
+    public ResponseEntity<?> execute(String key, String scope, Object request, Supplier<ResponseEntity<?>> action) {
+        if(key == null || key.isBlank()) {
+            return action.get();
+        }
+        String storeKey = scope + ' ' + key;
+        String fingerprint = String.valueOf(request);
+        while(true) {
+            long now = clock.millis();
+            Entry fresh = new Entry(storeKey, fingerprint, new CompletableFuture<>(), now + ttlMillis);
+            Entry existing = entries.putIfAbsent(storeKey, fresh);
+            if(existing == null) {
+                insertionOrder.add(fresh);
+                evict(now);
+                return run(fresh, action);
+            }
+            if(existing.expiresAt() <= now && existing.response().isDone()) {
+                entries.remove(storeKey, existing);
+                continue;
+            }
+            if(!existing.fingerprint().equals(fingerprint)) {
+                return new ResponseEntity<>("Idempotency-Key Was Used With A Different Request.", HttpStatus.UNPROCESSABLE_ENTITY);
+            }
+            try {
+                ResponseEntity<?> original = existing.response().get(waitMillis, TimeUnit.MILLISECONDS);
+                return ResponseEntity.status(original.getStatusCode())
+                    .headers(original.getHeaders())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(original.getBody());
+            } catch(ExecutionException e) {
+                // The original request failed and was forgotten, so this one runs it again.
+            } catch(TimeoutException e) {
+                return IN_PROGRESS;
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return IN_PROGRESS;
+            }
+        }
+    }
+
+    // Current number of remembered requests.
+    public int size() {
+        return entries.size();
+    }
+
+    private ResponseEntity<?> run(Entry entry, Supplier<ResponseEntity<?>> action) {
+        try {
+            ResponseEntity<?> response = snapshot(action.get());
+            entry.response().complete(response);
+            return response;
+        } catch(RuntimeException e) {
+            entries.remove(entry.key(), entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Drops expired entries from the front of the queue, and the oldest entries while the store is over capacity.
+    // Entries still running are moved to the back instead, until the queue comes round to the first of them.
+    private synchronized void evict(long now) {
+        Entry oldest;
+        Entry firstRunning = null;
+        while((oldest = insertionOrder.peek()) != null && oldest != firstRunning) {
+            if(entries.get(oldest.key()) != oldest) {
+                insertionOrder.poll();
+            } else if(oldest.expiresAt() <= now || entries.size() > maxEntries) {
+                insertionOrder.poll();
+                if(oldest.response().isDone()) {
+                    entries.remove(oldest.key(), oldest);
+                } else {
+                    insertionOrder.add(oldest);
+                    if(firstRunning == null) {
+                        firstRunning = oldest;
+                    }
+                }
+            } else {
+                break;
+            }
+        }
+    }
+
+    // Copies an Employee body so the remembered response does not share a mutable instance with the employee store.
+    private static ResponseEntity<?> snapshot(ResponseEntity<?> response) {
+        if(response.getBody() instanceof Employee e) {
+            Employee copy = new Employee(e.getId(), e.getFirstName(), e.getLastName(), e.getEmail(), e.getTitle());
+            return new ResponseEntity<>(copy, response.getHeaders(), response.getStatusCode());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.employeemgmt.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.example.employeemgmt.exception.InvalidInputException;
+import com.example.employeemgmt.jfr.JfrRecordingService;
+
+// Controller class for on-demand profiling of the running application.
+// Class level mapping is done to expose "/admin/jfr". The controller only exists when employee.jfr.recordings.enabled is true.
+@RestController
+@RequestMapping("/admin/jfr")
+@ConditionalOnProperty(name = "employee.jfr.recordings.enabled", havingValue = "true")
+public class ProfilingController {
+
+    // Time allowed on top of the recording to dump and send the file before the request times out.
+    private static final Duration DOWNLOAD_MARGIN = Duration.ofSeconds(30);
+
+    private final JfrRecordingService jfrRecordingService;
+
+    // Injecting the recording service using @Autowired.
+    @Autowired
+    public ProfilingController(JfrRecordingService jfrRecordingService) {
+        this.jfrRecordingService = jfrRecordingService;
+    }
+
+    /**
+     * Method to map POST requests to "/admin/jfr/recordings", which records for the given time and returns the file.
+     * The request is handled asynchronously, so no server thread waits for the recording, and it times out
+     * 30 seconds after the recording ends rather than after the container's default async timeout.
+     * @param duration ISO-8601 duration to record for, 30 seconds by default.
+     * @param settings JDK settings to record with, "default" or "profile".
+     * @return The .jfr file and status code 200.
+     * @throws InvalidInputException If the duration or settings are not valid and status code 400.
+     * @throws IllegalStateException If a recording is already running and status code 409.
+     */
+    @PostMapping("/recordings")
+    public DeferredResult<ResponseEntity<?>> record(@RequestParam(defaultValue = "PT30S") Duration duration,
+            @RequestParam(defaultValue = "profile") String settings) {
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(duration.plus(DOWNLOAD_MARGIN).toMillis());
+        CompletableFuture<Path> file;
+        try{
+            file = jfrRecordingService.record(duration, settings);
+        } catch(InvalidInputException i) {
+            result.setResult(new ResponseEntity<>(i.getMessage(), HttpStatus.BAD_REQUEST));
+            return result;
+        } catch(IllegalStateException e) {
+            result.setResult(new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT));
+            return result;
+        }
+        file.thenApply(ProfilingController::download).whenComplete((response, error) -> {
+            if(error != null) {
+                result.setErrorResult(error);
+            } else {
+                result.setResult(response);
+            }
+        });
+        return result;
+    }
+
+    // Reads the recording into the response and deletes the file.
+    private static ResponseEntity<?> download(Path file) {
+        try{
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .body(Files.readAllBytes(file));
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try{
+                Files.deleteIfExists(file);
+            } catch(IOException e) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+}
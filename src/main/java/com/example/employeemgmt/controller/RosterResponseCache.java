@@ -0,0 +1,161 @@
+package com.example.employeemgmt.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.employeemgmt.employees.Employees;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the gzipped JSON of the full employee list for the latest roster version, so repeated
+ * GET /employees requests for an unchanged roster skip both serialization and compression.
+ * Disabled unless employee.roster-cache.enabled is true.
+ *
+ * After a write one request rebuilds the body without holding any lock; requests arriving
+ * meanwhile are served the previous body, with the ETag of the version it was built from.
+ * ETags carry a random tag per instance, as versions restart at 0 on every boot and differ
+ * between replicas.
+ */
+@Component
+public class RosterResponseCache {
+
+    /** The gzipped roster and the version it was built from. */
+    public record Body(long version, byte[] gzip) {}
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String instanceTag = Long.toHexString(new SecureRandom().nextLong());
+    private final AtomicBoolean building = new AtomicBoolean();
+    private volatile Body cached;
+
+    @Autowired
+    public RosterResponseCache(ObjectMapper objectMapper, @Value("${employee.roster-cache.enabled:false}") boolean enabled) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Builds the ETag of one representation of a roster version.
+     * @param version
+     * @param gzip Whether the representation is the gzipped one, which gets its own ETag.
+     * @return A strong ETag, quoted.
+     */
+    public String etag(long version, boolean gzip) {
+        return "\"" + instanceTag + "-" + version + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    /**
+     * Tells whether an Accept-Encoding header accepts gzip. A gzip or x-gzip entry decides by its
+     * q-value, otherwise a "*" entry does, and a q-value of 0 means not acceptable.
+     * @param acceptEncoding The header, a comma separated list of codings with optional ";q=" weights, or null.
+     * @return True if the client accepts a gzipped body.
+     */
+    public boolean acceptsGzip(String acceptEncoding) {
+        if(acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for(String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim();
+            double q = 1;
+            for(int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if(parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try{
+                        q = Double.parseDouble(parameter.substring(2).trim());
+                    } catch(NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if(coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, q);
+            } else if(coding.equals("*")) {
+                any = Math.max(any, q);
+            }
+        }
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    /**
+     * Tells whether an If-None-Match header names the ETag.
+     * @param ifNoneMatch The header, a comma separated list of ETags, "*" or null.
+     * @param etag
+     * @return True if the client already has the representation.
+     */
+    public boolean matches(String ifNoneMatch, String etag) {
+        if(ifNoneMatch == null) {
+            return false;
+        }
+        for(String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if(tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if(tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the gzipped roster, building it if the cache holds an older version and no other
+     * request is already building it. The result is only cached if the version did not change
+     * while the roster was being read.
+     * @param version Reads the current roster version.
+     * @param roster Reads a snapshot of the current roster.
+     * @return The gzipped JSON of the roster and the version it was built from.
+     */
+    public Body gzipped(LongSupplier version, Supplier<Employees> roster) {
+        Body current = cached;
+        if(current != null && current.version() == version.getAsLong()) {
+            return current;
+        }
+        if(!building.compareAndSet(false, true)) {
+            // Another request is building the new body; the previous one stands in until it is done.
+            return current != null ? current : build(version, roster);
+        }
+        try {
+            return build(version, roster);
+        } finally {
+            building.set(false);
+        }
+    }
+
+    private Body build(LongSupplier version, Supplier<Employees> roster) {
+        long before = version.getAsLong();
+        Employees employees = roster.get();
+        Body body = new Body(before, compress(employees));
+        if(version.getAsLong() == before) {
+            cached = body;
+        }
+        return body;
+    }
+
+    private byte[] compress(Employees employees) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        try(GZIPOutputStream gzip = new GZIPOutputStream(bytes, 64 * 1024)) {
+            objectMapper.writeValue(gzip, employees);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
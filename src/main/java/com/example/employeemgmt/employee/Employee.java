@@ -2,11 +2,17 @@ package com.example.employeemgmt.employee;
 
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 /**
  * An Entity class with a no args constructor, all args constructor and
- * getters and setters for all fields.
+ * getters and setters for all fields. JSON is read and written by the streaming
+ * EmployeeSerializer and EmployeeDeserializer rather than reflective databinding.
  */
 @EntityScan
+@JsonSerialize(using = EmployeeSerializer.class)
+@JsonDeserialize(using = EmployeeDeserializer.class)
 public class Employee {
 
 
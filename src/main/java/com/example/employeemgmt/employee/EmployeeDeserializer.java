@@ -0,0 +1,61 @@
+package com.example.employeemgmt.employee;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Hand-written streaming deserializer for Employee. Reads tokens directly off the parser and
+ * assigns fields without reflection. Unusual tokens fall back to the context so coercion and
+ * unknown property handling follow the configured ObjectMapper.
+ */
+public class EmployeeDeserializer extends StdDeserializer<Employee> {
+
+    public EmployeeDeserializer() {
+        super(Employee.class);
+    }
+
+    @Override
+    public Employee deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if(!p.isExpectedStartObjectToken()) {
+            return (Employee) ctxt.handleUnexpectedToken(Employee.class, p);
+        }
+        Employee employee = new Employee();
+        String field;
+        while((field = p.nextFieldName()) != null) {
+            p.nextToken();
+            switch(field) {
+                case "id" -> employee.setId(readInteger(p, ctxt));
+                case "firstName" -> employee.setFirstName(readString(p, ctxt));
+                case "lastName" -> employee.setLastName(readString(p, ctxt));
+                case "email" -> employee.setEmail(readString(p, ctxt));
+                case "title" -> employee.setTitle(readString(p, ctxt));
+                default -> ctxt.handleUnknownProperty(p, this, Employee.class, field);
+            }
+        }
+        return employee;
+    }
+
+    // Reads the current token as an Integer, taking the common number and null cases without boxing through the context.
+    private static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if(token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        } else if(token == JsonToken.VALUE_NULL) {
+            return null;
+        } return ctxt.readValue(p, Integer.class);
+    }
+
+    // Reads the current token as a String, taking the common string and null cases directly.
+    private static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if(token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        } else if(token == JsonToken.VALUE_NULL) {
+            return null;
+        } return ctxt.readValue(p, String.class);
+    }
+}
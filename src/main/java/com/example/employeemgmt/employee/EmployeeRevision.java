@@ -0,0 +1,11 @@
+package com.example.employeemgmt.employee;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A single revision of an employee record as returned by the history endpoint. Only the fields
+ * that changed in the revision are listed; a create lists every field and a delete lists none.
+ */
+public record EmployeeRevision(long version, Instant timestamp, String operation, Map<String, String> changes) {
+}
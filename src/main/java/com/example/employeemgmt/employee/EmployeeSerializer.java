@@ -0,0 +1,46 @@
+package com.example.employeemgmt.employee;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Hand-written streaming serializer for Employee. Field names are pre-encoded once so
+ * writing an employee goes straight to the generator without reflection or bean introspection.
+ */
+public class EmployeeSerializer extends StdSerializer<Employee> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString TITLE = new SerializedString("title");
+
+    public EmployeeSerializer() {
+        super(Employee.class);
+    }
+
+    @Override
+    public void serialize(Employee employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(employee);
+        gen.writeFieldName(ID);
+        if(employee.getId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(employee.getId().intValue());
+        }
+        gen.writeFieldName(FIRST_NAME);
+        gen.writeString(employee.getFirstName());
+        gen.writeFieldName(LAST_NAME);
+        gen.writeString(employee.getLastName());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(employee.getEmail());
+        gen.writeFieldName(TITLE);
+        gen.writeString(employee.getTitle());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.employeemgmt.employees;
+
+import java.util.Map;
+
+/**
+ * Aggregate counts over the current employees. The distinct name counts are HyperLogLog
+ * estimates over every name seen since startup, so they do not go down when employees are removed.
+ */
+public record EmployeeStats(long total, Map<String, Long> byTitle, Map<String, Long> byEmailDomain,
+        long approxDistinctFirstNames, long approxDistinctLastNames) {
+}
@@ -3,15 +3,12 @@ package com.example.employeemgmt.employees;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.stereotype.Component;
-
 import com.example.employeemgmt.employee.Employee;
 
 /**
  * A container class for a list of Employees with a constructor,
- * getter and setter method.
+ * getter and setter method. The store's instance is created by EmployeeStoreConfig.
  */
-@Component
 public class Employees {
 
     private List<Employee> employeeList = new ArrayList<>();
@@ -0,0 +1,513 @@
+package com.example.employeemgmt.employees;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import com.example.employeemgmt.employee.Employee;
+
+/**
+ * A list of employees kept outside the Java heap. Each employee is encoded into a variable length
+ * slot in a data segment, either native memory or a memory-mapped file, so a large roster costs
+ * no heap and no GC work while it sits in the store. An Employee object is only decoded when an
+ * element is read, for example while the controller serializes the list.
+ *
+ * Alongside the data segment the list keeps two more off-heap segments: the slot offset of each
+ * position, and an open addressing hash table from id to slot offset for indexOfId.
+ *
+ * Slot layout: record length, list position and id as ints, a null mask byte, then first name,
+ * last name, email and title each as an int byte length followed by UTF-8 bytes.
+ *
+ * Like ArrayList this class is not thread safe; EmployeeManager serializes writes to it. Removed
+ * and replaced slots are reclaimed by copying the live slots to a fresh data segment once more than
+ * half of it is garbage. Slots are never overwritten, so snapshot() can share the data segment with
+ * later writes. Ids are expected to be unique, as EmployeeService enforces.
+ *
+ * Native segments are direct memory, so they count against -XX:MaxDirectMemorySize, which defaults
+ * to -Xmx. Growing the data segment doubles it and copies, and compacting copies too, so the old
+ * and new segments are both reserved until the old one and any snapshots of it are collected; size the limit for about three times the data. Segments
+ * mapped from a file do not count against the limit.
+ */
+public class OffHeapEmployeeList extends AbstractList<Employee> implements RandomAccess {
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+
+    private static final int LENGTH_OFFSET = 0;
+    private static final int POSITION_OFFSET = 4;
+    private static final int ID_OFFSET = 8;
+    private static final int NULL_MASK_OFFSET = 12;
+    private static final int HEADER_SIZE = 13;
+    private static final int FIELD_COUNT = 4;
+
+    private static final int INDEX_ENTRY_SIZE = 16;
+    private static final int EMPTY = 0;
+    private static final int FULL = 1;
+    private static final int DELETED = 2;
+
+    private static final long MIN_COMPACT_GARBAGE = 1 << 16;
+
+    private final Path baseFile;
+    private Path file;
+    private int generation;
+    private MemorySegment data;
+    private long dataEnd;
+    private long garbage;
+
+    private MemorySegment positions;
+    private int size;
+
+    private MemorySegment index;
+    private int indexCapacity;
+    private int indexLive;
+    private int indexTombstones;
+
+    /**
+     * Creates a list backed by native memory.
+     * @param initialBytes The initial size of the data segment, grown by doubling.
+     */
+    public OffHeapEmployeeList(long initialBytes) {
+        this(null, initialBytes);
+    }
+
+    private OffHeapEmployeeList(Path file, long initialBytes) {
+        this.baseFile = file;
+        this.file = file;
+        this.data = allocateData(Math.max(initialBytes, 1024));
+        this.positions = Arena.ofAuto().allocate(Long.BYTES * 1024L, Long.BYTES);
+        this.indexCapacity = 1024;
+        this.index = Arena.ofAuto().allocate((long) INDEX_ENTRY_SIZE * indexCapacity, Long.BYTES);
+    }
+
+    /**
+     * Creates a list whose data segment is a memory-mapped file, so the roster can be larger than
+     * physical memory. The file is scratch space: it is truncated on open and not reloaded, and
+     * compaction moves the data to a new file next to it named with a generation suffix.
+     * @param file
+     * @param initialBytes The initial size of the mapping, grown by doubling.
+     * @return An empty list backed by the file.
+     * @throws IOException If the file can not be created or mapped.
+     */
+    public static OffHeapEmployeeList mapped(Path file, long initialBytes) throws IOException {
+        Files.write(file, new byte[0]);
+        return new OffHeapEmployeeList(file, initialBytes);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Employee get(int position) {
+        checkPosition(position, size);
+        return decode(data, dataEnd, slotOffset(position));
+    }
+
+    @Override
+    public boolean add(Employee employee) {
+        add(size, employee);
+        return true;
+    }
+
+    @Override
+    public void add(int position, Employee employee) {
+        checkPosition(position, size + 1);
+        ensurePositionCapacity(size + 1);
+        long offset = encode(employee, position);
+        for(int i = size; i > position; i--) {
+            moveSlot(i - 1, i);
+        }
+        positions.setAtIndex(LONG, position, offset);
+        size++;
+        indexPut(employee.getId(), offset);
+        modCount++;
+    }
+
+    @Override
+    public Employee set(int position, Employee employee) {
+        checkPosition(position, size);
+        long oldOffset = slotOffset(position);
+        Employee previous = decode(data, dataEnd, oldOffset);
+        release(oldOffset);
+        long offset = encode(employee, position);
+        positions.setAtIndex(LONG, position, offset);
+        indexPut(employee.getId(), offset);
+        compactIfNeeded();
+        return previous;
+    }
+
+    @Override
+    public Employee remove(int position) {
+        checkPosition(position, size);
+        long oldOffset = slotOffset(position);
+        Employee previous = decode(data, dataEnd, oldOffset);
+        release(oldOffset);
+        for(int i = position + 1; i < size; i++) {
+            moveSlot(i, i - 1);
+        }
+        size--;
+        modCount++;
+        compactIfNeeded();
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        data = freshData(data.byteSize());
+        size = 0;
+        dataEnd = 0;
+        garbage = 0;
+        index.fill((byte) 0);
+        indexLive = 0;
+        indexTombstones = 0;
+        modCount++;
+    }
+
+    /**
+     * Finds the position of the employee with the id using the off-heap index.
+     * @param id
+     * @return The position, or -1 if no employee has the id.
+     */
+    public int indexOfId(Integer id) {
+        if(id == null) {
+            for(int i = 0; i < size; i++) {
+                if((data.get(ValueLayout.JAVA_BYTE, slotOffset(i) + NULL_MASK_OFFSET) & 1) != 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        long offset = indexGet(id);
+        return offset < 0 ? -1 : data.get(INT, offset + POSITION_OFFSET);
+    }
+
+    /**
+     * Returns a read-only view of the list as it is now, which later writes do not change. Only the
+     * slot offsets are copied, into native memory, and employees are decoded as the view is read,
+     * so taking it is cheap even for a large roster.
+     * @return The employees in list order at the time of the call.
+     */
+    public List<Employee> snapshot() {
+        MemorySegment offsets = Arena.ofAuto().allocate(Math.max(size, 1) * (long) Long.BYTES, Long.BYTES);
+        MemorySegment.copy(positions, 0, offsets, 0, (long) size * Long.BYTES);
+        return new Snapshot(data, dataEnd, offsets, size);
+    }
+
+    // Bytes of the data segment in use, including garbage not yet compacted.
+    public long dataBytes() {
+        return dataEnd;
+    }
+
+    // Bytes of the off-heap id index, which is sized from the live ids rather than every id ever added.
+    public long indexBytes() {
+        return index.byteSize();
+    }
+
+    private long slotOffset(int position) {
+        return positions.getAtIndex(LONG, position);
+    }
+
+    // Moves the slot at one position to another and records the new position in the slot header.
+    private void moveSlot(int from, int to) {
+        long offset = slotOffset(from);
+        positions.setAtIndex(LONG, to, offset);
+        data.set(INT, offset + POSITION_OFFSET, to);
+    }
+
+    // Drops the index entry and marks the slot as garbage.
+    private void release(long offset) {
+        if((data.get(ValueLayout.JAVA_BYTE, offset + NULL_MASK_OFFSET) & 1) == 0) {
+            indexRemove(data.get(INT, offset + ID_OFFSET), offset);
+        }
+        garbage += data.get(INT, offset + LENGTH_OFFSET);
+    }
+
+    private long encode(Employee employee, int position) {
+        byte[][] fields = {
+            bytes(employee.getFirstName()), bytes(employee.getLastName()),
+            bytes(employee.getEmail()), bytes(employee.getTitle())
+        };
+        int length = HEADER_SIZE;
+        byte nullMask = (byte) (employee.getId() == null ? 1 : 0);
+        for(int f = 0; f < FIELD_COUNT; f++) {
+            length += Integer.BYTES;
+            if(fields[f] == null) {
+                nullMask |= (byte) (1 << (f + 1));
+            } else {
+                length += fields[f].length;
+            }
+        }
+        ensureDataCapacity(dataEnd + length);
+        long offset = dataEnd;
+        data.set(INT, offset + LENGTH_OFFSET, length);
+        data.set(INT, offset + POSITION_OFFSET, position);
+        data.set(INT, offset + ID_OFFSET, employee.getId() == null ? 0 : employee.getId());
+        data.set(ValueLayout.JAVA_BYTE, offset + NULL_MASK_OFFSET, nullMask);
+        long cursor = offset + HEADER_SIZE;
+        for(byte[] field : fields) {
+            int fieldLength = field == null ? 0 : field.length;
+            data.set(INT, cursor, fieldLength);
+            cursor += Integer.BYTES;
+            if(fieldLength > 0) {
+                MemorySegment.copy(field, 0, data, ValueLayout.JAVA_BYTE, cursor, fieldLength);
+                cursor += fieldLength;
+            }
+        }
+        dataEnd += length;
+        return offset;
+    }
+
+    private static Employee decode(MemorySegment data, long dataEnd, long offset) {
+        int length = data.get(INT, offset + LENGTH_OFFSET);
+        if(length < HEADER_SIZE || offset + length > dataEnd) {
+            throw new ConcurrentModificationException();
+        }
+        byte nullMask = data.get(ValueLayout.JAVA_BYTE, offset + NULL_MASK_OFFSET);
+        Integer id = (nullMask & 1) != 0 ? null : data.get(INT, offset + ID_OFFSET);
+        String[] fields = new String[FIELD_COUNT];
+        long cursor = offset + HEADER_SIZE;
+        for(int f = 0; f < FIELD_COUNT; f++) {
+            int fieldLength = data.get(INT, cursor);
+            cursor += Integer.BYTES;
+            if((nullMask & (1 << (f + 1))) == 0) {
+                byte[] bytes = new byte[fieldLength];
+                MemorySegment.copy(data, ValueLayout.JAVA_BYTE, cursor, bytes, 0, fieldLength);
+                fields[f] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            cursor += fieldLength;
+        }
+        return new Employee(id, fields[0], fields[1], fields[2], fields[3]);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Copies live slots to the front of a fresh data segment once more than half of it is garbage.
+    // The old segment is left as it was for snapshots still reading it.
+    private void compactIfNeeded() {
+        if(garbage < MIN_COMPACT_GARBAGE || garbage * 2 < dataEnd) {
+            return;
+        }
+        MemorySegment compacted = freshData(data.byteSize());
+        long read = 0;
+        long write = 0;
+        while(read < dataEnd) {
+            int length = data.get(INT, read + LENGTH_OFFSET);
+            int position = data.get(INT, read + POSITION_OFFSET);
+            if(position < size && slotOffset(position) == read) {
+                MemorySegment.copy(data, read, compacted, write, length);
+                positions.setAtIndex(LONG, position, write);
+                if((compacted.get(ValueLayout.JAVA_BYTE, write + NULL_MASK_OFFSET) & 1) == 0) {
+                    indexPut(compacted.get(INT, write + ID_OFFSET), write);
+                }
+                write += length;
+            }
+            read += length;
+        }
+        data = compacted;
+        dataEnd = write;
+        garbage = 0;
+        modCount++;
+    }
+
+    private void ensureDataCapacity(long required) {
+        if(required <= data.byteSize()) {
+            return;
+        }
+        long capacity = data.byteSize();
+        while(capacity < required) {
+            capacity *= 2;
+        }
+        MemorySegment grown = allocateData(capacity);
+        if(file == null) {
+            MemorySegment.copy(data, 0, grown, 0, dataEnd);
+        }
+        data = grown;
+    }
+
+    // Allocates native memory, or remaps the backing file at the new size keeping its contents.
+    private MemorySegment allocateData(long bytes) {
+        if(file == null) {
+            return Arena.ofAuto().allocate(bytes, Long.BYTES);
+        }
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes, Arena.ofAuto());
+        } catch(IOException e) {
+            throw new IllegalStateException("Could not map " + file, e);
+        }
+    }
+
+    // Allocates native memory, or maps a new generation of the backing file and deletes the previous one.
+    // Mappings of the previous file stay readable after it is deleted.
+    private MemorySegment freshData(long bytes) {
+        if(file == null) {
+            return Arena.ofAuto().allocate(bytes, Long.BYTES);
+        }
+        Path previous = file;
+        try{
+            file = baseFile.resolveSibling(baseFile.getFileName() + "." + ++generation);
+            Files.write(file, new byte[0]);
+        } catch(IOException e) {
+            throw new IllegalStateException("Could not create " + file, e);
+        }
+        MemorySegment segment = allocateData(bytes);
+        try{
+            Files.deleteIfExists(previous);
+        } catch(IOException e) {
+            previous.toFile().deleteOnExit();
+        }
+        return segment;
+    }
+
+    private void ensurePositionCapacity(int required) {
+        long capacity = positions.byteSize() / Long.BYTES;
+        if(required <= capacity) {
+            return;
+        }
+        MemorySegment grown = Arena.ofAuto().allocate(positions.byteSize() * 2, Long.BYTES);
+        MemorySegment.copy(positions, 0, grown, 0, (long) size * Long.BYTES);
+        positions = grown;
+    }
+
+    private void checkPosition(int position, int bound) {
+        if(position < 0 || position >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size);
+        }
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private long entry(int slot) {
+        return (long) slot * INDEX_ENTRY_SIZE;
+    }
+
+    private long indexGet(int id) {
+        int mask = indexCapacity - 1;
+        for(int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            int state = index.get(INT, entry(slot));
+            if(state == EMPTY) {
+                return -1;
+            }
+            if(state == FULL && index.get(INT, entry(slot) + 4) == id) {
+                return index.get(LONG, entry(slot) + 8);
+            }
+        }
+    }
+
+    private void indexPut(Integer id, long offset) {
+        if(id == null) {
+            return;
+        }
+        // Tombstones count towards the load, so a table full of them is rebuilt at a size
+        // fitting the live ids, which keeps its capacity steady when ids churn.
+        if((indexLive + indexTombstones + 1) * 2 > indexCapacity) {
+            int capacity = 1024;
+            while(capacity < (indexLive + 1) * 4) {
+                capacity *= 2;
+            }
+            rehash(capacity);
+        }
+        int mask = indexCapacity - 1;
+        int target = -1;
+        for(int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            int state = index.get(INT, entry(slot));
+            if(state == FULL && index.get(INT, entry(slot) + 4) == id) {
+                index.set(LONG, entry(slot) + 8, offset);
+                return;
+            }
+            if(state == DELETED && target < 0) {
+                target = slot;
+            }
+            if(state == EMPTY) {
+                if(target < 0) {
+                    target = slot;
+                }
+                break;
+            }
+        }
+        if(index.get(INT, entry(target)) == DELETED) {
+            indexTombstones--;
+        }
+        indexLive++;
+        index.set(INT, entry(target), FULL);
+        index.set(INT, entry(target) + 4, id);
+        index.set(LONG, entry(target) + 8, offset);
+    }
+
+    // Removes the id only if it still points at the given slot.
+    private void indexRemove(int id, long offset) {
+        int mask = indexCapacity - 1;
+        for(int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            int state = index.get(INT, entry(slot));
+            if(state == EMPTY) {
+                return;
+            }
+            if(state == FULL && index.get(INT, entry(slot) + 4) == id) {
+                if(index.get(LONG, entry(slot) + 8) == offset) {
+                    index.set(INT, entry(slot), DELETED);
+                    indexLive--;
+                    indexTombstones++;
+                }
+                return;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        MemorySegment old = index;
+        int oldCapacity = indexCapacity;
+        index = Arena.ofAuto().allocate((long) INDEX_ENTRY_SIZE * capacity, Long.BYTES);
+        indexCapacity = capacity;
+        indexLive = 0;
+        indexTombstones = 0;
+        for(int slot = 0; slot < oldCapacity; slot++) {
+            long entry = (long) slot * INDEX_ENTRY_SIZE;
+            if(old.get(INT, entry) == FULL) {
+                indexPut(old.get(INT, entry + 4), old.get(LONG, entry + 8));
+            }
+        }
+    }
+
+    // A frozen view sharing the data segment, with its own copy of the slot offsets.
+    private static final class Snapshot extends AbstractList<Employee> implements RandomAccess {
+
+        private final MemorySegment data;
+        private final long dataEnd;
+        private final MemorySegment offsets;
+        private final int size;
+
+        private Snapshot(MemorySegment data, long dataEnd, MemorySegment offsets, int size) {
+            this.data = data;
+            this.dataEnd = dataEnd;
+            this.offsets = offsets;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Employee get(int position) {
+            Objects.checkIndex(position, size);
+            return decode(data, dataEnd, offsets.getAtIndex(LONG, position));
+        }
+    }
+}
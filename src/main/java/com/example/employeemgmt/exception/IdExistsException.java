@@ -2,9 +2,10 @@ package com.example.employeemgmt.exception;
 
 /**
  * Custom exception class to handle instances of duplicate ids being registered.
+ * No stack trace is captured as only the message is returned to the client.
  */
 public class IdExistsException extends RuntimeException {
     public IdExistsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
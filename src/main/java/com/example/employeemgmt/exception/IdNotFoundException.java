@@ -2,9 +2,13 @@ package com.example.employeemgmt.exception;
 
 /**
  * Custom exception to handle situations a request is sent for a id that does not exist.
+ * Thrown on the normal request path, so filling in a stack trace is skipped.
  */
 public class IdNotFoundException extends RuntimeException{
+    // Message for an unknown id, shared so the controller can reply with a prebuilt body.
+    public static final String MESSAGE = "Id Not Found.";
+
     public IdNotFoundException(String message){
-        super(message);
+        super(message, null, false, false);
     }
 }
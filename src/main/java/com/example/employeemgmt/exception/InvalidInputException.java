@@ -2,9 +2,10 @@ package com.example.employeemgmt.exception;
 
 /**
  * Custom exception to handle validation for values being entered for fields.
+ * Callers only use the message, so the stack trace is not filled in.
  */
 public class InvalidInputException extends RuntimeException{
     public InvalidInputException(String message){
-        super(message);
+        super(message, null, false, false);
     }
 }
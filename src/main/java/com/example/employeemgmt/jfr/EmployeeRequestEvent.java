@@ -0,0 +1,45 @@
+package com.example.employeemgmt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one HTTP request to the /employees API, from the interceptor's preHandle to
+ * afterCompletion. Committed by EmployeeRequestInterceptor.
+ */
+@Name("com.example.employeemgmt.EmployeeRequest")
+@Label("Employee Request")
+@Description("An HTTP request handled by EmployeeController")
+@Category({"Employee Management", "Request"})
+@StackTrace(false)
+public class EmployeeRequestEvent extends Event {
+
+    @Label("Operation")
+    @Description("HTTP method and matched path pattern")
+    String operation;
+
+    @Label("Employee Id")
+    @Description("The id from the request path, if there is one")
+    String employeeId;
+
+    @Label("Outcome")
+    @Description("HTTP status, or the exception type if the request failed with one")
+    String outcome;
+
+    @Label("Store Size")
+    @Description("Number of employees in the store when the request completed")
+    int storeSize;
+
+    // Fills in the details and commits.
+    void commit(String operation, String employeeId, String outcome, int storeSize) {
+        this.operation = operation;
+        this.employeeId = employeeId;
+        this.outcome = outcome;
+        this.storeSize = storeSize;
+        commit();
+    }
+}
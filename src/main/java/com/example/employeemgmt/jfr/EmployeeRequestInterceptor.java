@@ -0,0 +1,56 @@
+package com.example.employeemgmt.jfr;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.employeemgmt.service.EmployeeService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times each /employees request as an EmployeeRequestEvent. When no recording has the event
+ * enabled nothing is stored on the request and afterCompletion returns straight away.
+ */
+@Component
+public class EmployeeRequestInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = EmployeeRequestInterceptor.class.getName() + ".event";
+
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeRequestInterceptor(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        EmployeeRequestEvent event = new EmployeeRequestEvent();
+        if(event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if(!(request.getAttribute(EVENT_ATTRIBUTE) instanceof EmployeeRequestEvent event)) {
+            return;
+        }
+        event.end();
+        if(event.shouldCommit()) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            String id = variables instanceof Map<?, ?> map && map.get("id") != null ? map.get("id").toString() : null;
+            String outcome = ex != null ? ex.getClass().getSimpleName() : String.valueOf(response.getStatus());
+            event.commit(request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()), id, outcome,
+                employeeService.countEmployees());
+        }
+    }
+}
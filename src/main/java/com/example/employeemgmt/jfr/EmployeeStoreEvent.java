@@ -0,0 +1,52 @@
+package com.example.employeemgmt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one EmployeeManager operation. Fields are only filled in when a recording wants
+ * the event, so with no recording running the cost is a begin and a shouldCommit check.
+ */
+@Name("com.example.employeemgmt.EmployeeStore")
+@Label("Employee Store Operation")
+@Description("An operation on the employee store in EmployeeManager")
+@Category({"Employee Management", "Store"})
+@StackTrace(false)
+public class EmployeeStoreEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Employee Id")
+    String employeeId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Store Size")
+    @Description("Number of employees in the store when the operation finished")
+    int storeSize;
+
+    // Creates and begins an event for an operation that is about to run.
+    public static EmployeeStoreEvent start() {
+        EmployeeStoreEvent event = new EmployeeStoreEvent();
+        event.begin();
+        return event;
+    }
+
+    // Ends the event and commits it with its details if a recording wants it.
+    public void finish(String operation, Integer id, String outcome, int storeSize) {
+        end();
+        if(shouldCommit()) {
+            this.operation = operation;
+            this.employeeId = id == null ? null : id.toString();
+            this.outcome = outcome;
+            this.storeSize = storeSize;
+            commit();
+        }
+    }
+}
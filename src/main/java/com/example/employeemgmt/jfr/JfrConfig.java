@@ -0,0 +1,23 @@
+package com.example.employeemgmt.jfr;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/** Registers the JFR request interceptor for the /employees API. */
+@Configuration
+public class JfrConfig implements WebMvcConfigurer {
+
+    private final EmployeeRequestInterceptor employeeRequestInterceptor;
+
+    @Autowired
+    public JfrConfig(EmployeeRequestInterceptor employeeRequestInterceptor) {
+        this.employeeRequestInterceptor = employeeRequestInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(employeeRequestInterceptor).addPathPatterns("/employees", "/employees/**");
+    }
+}
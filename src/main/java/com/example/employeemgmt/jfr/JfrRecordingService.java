@@ -0,0 +1,94 @@
+package com.example.employeemgmt.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.example.employeemgmt.exception.InvalidInputException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Service class that takes time-boxed JFR recordings on demand, one at a time. Only created when
+ * employee.jfr.recordings.enabled is true. Events that capture the environment, system properties
+ * and JVM arguments are left out of the recording, as they can hold credentials.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.jfr.recordings.enabled", havingValue = "true")
+public class JfrRecordingService {
+
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation", "jdk.InitialSecurityProperty");
+
+    private final Duration maxDuration;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    @Autowired
+    public JfrRecordingService(@Value("${employee.jfr.max-recording:PT5M}") Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Starts recording with a JDK settings file plus the employee events and dumps the result once the time is up.
+     * No thread waits while the recording runs.
+     * @param duration How long to record for, at most employee.jfr.max-recording.
+     * @param settings "default" for low overhead or "profile" for more detail.
+     * @return A temporary .jfr file, once recorded, the caller is responsible for deleting.
+     * @throws InvalidInputException If the duration or settings are not valid.
+     * @throws IllegalStateException If a recording is already running.
+     */
+    public CompletableFuture<Path> record(Duration duration, String settings) throws InvalidInputException {
+        if(duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new InvalidInputException("Duration Must Be Between 0 And " + maxDuration + ".");
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch(ParseException | IOException e) {
+            throw new InvalidInputException("Settings Must Be default Or profile.");
+        }
+        if(!recording.compareAndSet(false, true)) {
+            throw new IllegalStateException("A Recording Is Already Running.");
+        }
+        Recording jfr = new Recording(configuration);
+        try {
+            jfr.setName("employeemgmt-on-demand");
+            SENSITIVE_EVENTS.forEach(jfr::disable);
+            jfr.enable(EmployeeRequestEvent.class);
+            jfr.enable(EmployeeStoreEvent.class);
+            jfr.start();
+        } catch(RuntimeException e) {
+            jfr.close();
+            recording.set(false);
+            throw e;
+        }
+        return CompletableFuture.supplyAsync(() -> dump(jfr),
+                CompletableFuture.delayedExecutor(duration.toMillis(), TimeUnit.MILLISECONDS))
+            .whenComplete((file, error) -> recording.set(false));
+    }
+
+    // Stops the recording and writes it to a temporary file.
+    private static Path dump(Recording jfr) {
+        try(jfr) {
+            jfr.stop();
+            Path file = Files.createTempFile("employeemgmt-", ".jfr");
+            jfr.dump(file);
+            return file;
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
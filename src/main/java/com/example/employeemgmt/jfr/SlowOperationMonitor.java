@@ -0,0 +1,65 @@
+package com.example.employeemgmt.jfr;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams the employee JFR events in process and logs a warning for every request or store
+ * operation slower than the threshold. Only created when employee.jfr.monitor.enabled is true,
+ * as the stream keeps the events enabled, and so timed, for as long as the application runs.
+ * No other bean depends on it, so it opts out of lazy initialization to start with the application.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "employee.jfr.monitor.enabled", havingValue = "true")
+public class SlowOperationMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowOperationMonitor.class);
+
+    private final Duration threshold;
+    private final LongAdder alerts = new LongAdder();
+    private RecordingStream stream;
+
+    public SlowOperationMonitor(@Value("${employee.jfr.monitor.threshold:PT0.1S}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(EmployeeRequestEvent.class).withThreshold(threshold);
+        stream.enable(EmployeeStoreEvent.class).withThreshold(threshold);
+        stream.onEvent("com.example.employeemgmt.EmployeeRequest", this::alert);
+        stream.onEvent("com.example.employeemgmt.EmployeeStore", this::alert);
+        stream.startAsync();
+    }
+
+    @Override
+    public void destroy() {
+        stream.close();
+    }
+
+    // Number of slow operations seen since startup.
+    public long getAlertCount() {
+        return alerts.sum();
+    }
+
+    private void alert(RecordedEvent event) {
+        alerts.increment();
+        log.warn("Slow {}: {} id={} outcome={} storeSize={} took {} ms", event.getEventType().getLabel(),
+            event.getString("operation"), event.getString("employeeId"), event.getString("outcome"),
+            event.getInt("storeSize"), event.getDuration().toMillis());
+    }
+}
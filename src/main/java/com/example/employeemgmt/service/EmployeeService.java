@@ -1,14 +1,20 @@
 package com.example.employeemgmt.service;
 
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import com.example.employeemgmt.DAO.EmployeeManager;
 import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employee.EmployeeRevision;
+import com.example.employeemgmt.employees.EmployeeStats;
 import com.example.employeemgmt.employees.Employees;
 import com.example.employeemgmt.exception.IdExistsException;
 import com.example.employeemgmt.exception.IdNotFoundException;
 import com.example.employeemgmt.exception.InvalidInputException;
+import com.example.employeemgmt.validation.EmployeeValidator;
 
 
 /** Service class added for business logic. */
@@ -16,14 +22,18 @@ import com.example.employeemgmt.exception.InvalidInputException;
 public class EmployeeService {
     
     private final EmployeeManager employeeManager;
+    private final EmployeeValidator employeeValidator;
 
     /**
-     * Constructor that injects the necessary EmployeeManager class for data access. 
+     * Constructor that injects the necessary EmployeeManager class for data access and the
+     * EmployeeValidator shared by every write path.
      * @param employeeManager
+     * @param employeeValidator
      */
     @Autowired 
-    public EmployeeService(EmployeeManager employeeManager) {
+    public EmployeeService(EmployeeManager employeeManager, EmployeeValidator employeeValidator) {
         this.employeeManager = employeeManager;
+        this.employeeValidator = employeeValidator;
     }
 
     /**
@@ -34,22 +44,87 @@ public class EmployeeService {
         return employeeManager.getAllEmployees();
     }
 
+    /**
+     * A service layer method to get every employee as they were at a past instant.
+     * @param asOf
+     * @return A list of the employees that existed at that instant with the details they had then.
+     * @throws InvalidInputException If history is disabled, as it is by default with the off-heap store.
+     */
+    public Employees getAllEmployees(Instant asOf) throws InvalidInputException {
+        if(!employeeManager.isHistoryEnabled()) {
+            throw new InvalidInputException("History Is Disabled.");
+        }
+        return employeeManager.getAllEmployeesAsOf(asOf);
+    }
+
+    /**
+     * A service layer method to get the revision history of an employee.
+     * @param id
+     * @return The retained revisions of the employee, oldest first.
+     * @throws IdNotFoundException If the id has no retained history.
+     */
+    public List<EmployeeRevision> getEmployeeHistory(Integer id) throws IdNotFoundException {
+        List<EmployeeRevision> history = employeeManager.getHistory(id);
+        if(history.isEmpty()) {
+            throw new IdNotFoundException(IdNotFoundException.MESSAGE);
+        }
+        return history;
+    }
+
+    /**
+     * A service layer method to get the version of the employee list, for caching responses built from it.
+     * @return A number that changes whenever an employee is added, updated or deleted.
+     */
+    public long getRosterVersion() {
+        return employeeManager.getVersion();
+    }
+
+    /**
+     * A service layer method to get the number of employees currently stored.
+     * @return The number of employees.
+     */
+    public int countEmployees() {
+        return employeeManager.size();
+    }
+
+    /**
+     * A service layer method to get the employee counts per title and email domain.
+     * @return The current aggregate counts.
+     */
+    public EmployeeStats getStats() {
+        return employeeManager.getStats();
+    }
+
+    /**
+     * A service layer method to count employees with a title.
+     * @param title
+     * @return The number of employees with exactly that title.
+     */
+    public long countByTitle(String title) {
+        return employeeManager.countByTitle(title);
+    }
+
+    /**
+     * A service layer method to count employees with an email domain.
+     * @param domain
+     * @return The number of employees whose email is at that domain, ignoring case.
+     */
+    public long countByEmailDomain(String domain) {
+        return employeeManager.countByEmailDomain(domain);
+    }
+
     /**
      * Service layer method to add an employee.
      * @param employee
      * @return The employee object if create operation is successful.
-     * @throws InvalidInputException If fields are empty.
+     * @throws InvalidInputException If any field fails validation, listing every failed field.
      * @throws IdExistsException If id already exists as it would break database integrity.
      */
     public Employee addEmployee(Employee employee) throws InvalidInputException, IdExistsException{
         if(!employeeManager.ifExists(employee.getId())) {
-            if(employee.getId() != null && !employee.getFirstName().isBlank() && !employee.getLastName().isBlank() &&
-                !employee.getEmail().isBlank() && !employee.getTitle().isBlank() ) {
-                employeeManager.addEmployee(employee);
-                return employee;
-            } else {
-                throw new InvalidInputException("All Fields Must Be Completed.");
-            }
+            employeeValidator.validateOrThrow(employee);
+            employeeManager.addEmployee(employee);
+            return employee;
         } else {
             throw new IdExistsException("ID Must Be Unique.");
         }
@@ -66,7 +141,7 @@ public class EmployeeService {
             employeeManager.deleteEmployee(id);
             return 1;
         }
-        throw new IdNotFoundException("Id Not Found");
+        throw new IdNotFoundException(IdNotFoundException.MESSAGE);
     }
 
     /**
@@ -74,12 +149,14 @@ public class EmployeeService {
      * @param employeeToUpdate
      * @return An employee object with updated details.
      * @throws IdNotFoundException If the id does not exist.
+     * @throws InvalidInputException If any field fails validation, listing every failed field.
      */
-    public Employee updateEmployee(Employee employeeToUpdate) throws IdNotFoundException {
+    public Employee updateEmployee(Employee employeeToUpdate) throws IdNotFoundException, InvalidInputException {
         if(employeeManager.ifExists(employeeToUpdate.getId())) {
+            employeeValidator.validateOrThrow(employeeToUpdate);
             Employee updatedEmployee = employeeManager.updateEmployee(employeeToUpdate);
             return updatedEmployee;
-        } throw new IdNotFoundException("Id Not Found");
+        } throw new IdNotFoundException(IdNotFoundException.MESSAGE);
     }
 
 }
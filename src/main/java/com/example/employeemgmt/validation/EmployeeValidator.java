@@ -0,0 +1,114 @@
+package com.example.employeemgmt.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.exception.InvalidInputException;
+
+/**
+ * Validates Employee fields against a fixed set of rules. The rules are compiled once into a list
+ * of null-safe predicates when the validator is created, and every rule is checked on each call so
+ * all field errors are reported together.
+ */
+@Component
+public class EmployeeValidator {
+
+    public static final int MAX_NAME_LENGTH = 50;
+    public static final int MAX_EMAIL_LENGTH = 254;
+    public static final int MAX_TITLE_LENGTH = 100;
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    /** A single compiled rule: the predicate a valid employee satisfies and the message if it does not. */
+    private record Rule(Predicate<Employee> check, String message) {}
+
+    private final List<Rule> rules;
+
+    /**
+     * Compiles the rule list. An empty set of allowed titles accepts any non-blank title.
+     * @param allowedTitles
+     */
+    @Autowired
+    public EmployeeValidator(@Value("${employee.validation.allowed-titles:}") Collection<String> allowedTitles) {
+        Set<String> titles = allowedTitles.stream()
+            .map(String::trim)
+            .filter(title -> !title.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+
+        List<Rule> compiled = new ArrayList<>();
+        compiled.add(new Rule(employee -> employee.getId() != null, "Id Must Be Completed."));
+        addTextRules(compiled, Employee::getFirstName, "First Name", MAX_NAME_LENGTH);
+        addTextRules(compiled, Employee::getLastName, "Last Name", MAX_NAME_LENGTH);
+        addTextRules(compiled, Employee::getEmail, "Email", MAX_EMAIL_LENGTH);
+        compiled.add(new Rule(employee -> isBlank(employee.getEmail()) || EMAIL.matcher(employee.getEmail()).matches(),
+            "Email Must Be A Valid Address."));
+        addTextRules(compiled, Employee::getTitle, "Title", MAX_TITLE_LENGTH);
+        if(!titles.isEmpty()) {
+            compiled.add(new Rule(employee -> isBlank(employee.getTitle()) || titles.contains(employee.getTitle()),
+                "Title Must Be One Of " + titles.stream().sorted().collect(Collectors.joining(", ")) + "."));
+        }
+        this.rules = List.copyOf(compiled);
+    }
+
+    /**
+     * Creates a validator that accepts any non-blank title.
+     */
+    public EmployeeValidator() {
+        this(List.of());
+    }
+
+    /**
+     * Runs every rule against the employee.
+     * @param employee
+     * @return The messages for each rule that failed, empty if the employee is valid.
+     */
+    public List<String> validate(Employee employee) {
+        if(employee == null) {
+            return List.of("Employee Must Be Provided.");
+        }
+        List<String> errors = null;
+        for(Rule rule : rules) {
+            if(!rule.check().test(employee)) {
+                if(errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(rule.message());
+            }
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    /**
+     * Runs every rule against the employee and throws if any failed.
+     * @param employee
+     * @throws InvalidInputException With every failed rule's message if the employee is invalid.
+     */
+    public void validateOrThrow(Employee employee) throws InvalidInputException {
+        List<String> errors = validate(employee);
+        if(!errors.isEmpty()) {
+            throw new InvalidInputException(String.join(" ", errors));
+        }
+    }
+
+    // Adds the required and maximum length rules for a text field.
+    private static void addTextRules(List<Rule> rules, Function<Employee, String> field, String label, int maxLength) {
+        rules.add(new Rule(employee -> !isBlank(field.apply(employee)), label + " Must Be Completed."));
+        rules.add(new Rule(employee -> isBlank(field.apply(employee)) || field.apply(employee).length() <= maxLength,
+            label + " Must Be At Most " + maxLength + " Characters."));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.employeemgmt.EmployeeControllerCacheTests;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.example.employeemgmt.controller.EmployeeController;
+import com.example.employeemgmt.controller.IdempotencyStore;
+import com.example.employeemgmt.controller.RosterResponseCache;
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.service.EmployeeService;
+
+/**
+ * This class tests GET "/employees" in isolation with the roster cache enabled.
+ */
+@WebMvcTest(controllers = EmployeeController.class, properties = "employee.roster-cache.enabled=true")
+@Import({IdempotencyStore.class, RosterResponseCache.class})
+public class EmployeeControllerCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RosterResponseCache rosterCache;
+
+    @SuppressWarnings("removal")
+    @MockBean
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void setup() {
+        when(employeeService.getRosterVersion()).thenReturn(5L);
+        when(employeeService.getAllEmployees()).thenReturn(new Employees(List.of(new Employee(1,"sal","Sam","ssal@gmail.com","Manager"))));
+    }
+
+    /**
+     * Test validates a client accepting gzip gets the compressed body with Content-Encoding and its own ETag.
+     */
+    @Test
+    void testGzipBody() throws Exception {
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.get("/employees").header("Accept-Encoding", "gzip, deflate"))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.header().string("Content-Encoding", "gzip"))
+            .andExpect(MockMvcResultMatchers.header().string("ETag", rosterCache.etag(5, true)))
+            .andExpect(MockMvcResultMatchers.header().string("Vary", "Accept-Encoding"))
+            .andReturn();
+
+        try(GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertTrue(new String(in.readAllBytes()).contains("\"firstName\":\"sal\""));
+        }
+    }
+
+    /**
+     * Test validates a client not accepting gzip gets plain JSON with the identity ETag.
+     */
+    @Test
+    void testIdentityBody() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().doesNotExist("Content-Encoding"))
+        .andExpect(MockMvcResultMatchers.header().string("ETag", rosterCache.etag(5, false)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.employeeList[0].firstName").value("sal"));
+    }
+
+    /**
+     * Test validates a matching If-None-Match gets 304 without a body, and the other encoding's ETag does not match.
+     */
+    @Test
+    void testNotModified() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees").header("Accept-Encoding", "gzip")
+            .header("If-None-Match", rosterCache.etag(5, true)))
+        .andExpect(MockMvcResultMatchers.status().isNotModified())
+        .andExpect(MockMvcResultMatchers.content().string(""));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees")
+            .header("If-None-Match", rosterCache.etag(5, true)))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+
+        when(employeeService.getRosterVersion()).thenReturn(6L);
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees").header("Accept-Encoding", "gzip")
+            .header("If-None-Match", rosterCache.etag(5, true)))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    /**
+     * Test validates a client refusing gzip with q=0 gets plain JSON even though the header names gzip.
+     */
+    @Test
+    void testGzipRefused() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees").header("Accept-Encoding", "gzip;q=0, identity"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().doesNotExist("Content-Encoding"))
+        .andExpect(MockMvcResultMatchers.header().string("ETag", rosterCache.etag(5, false)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.employeeList[0].firstName").value("sal"));
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.employeemgmt.EmployeeControllerTests;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.example.employeemgmt.controller.EmployeeController;
+import com.example.employeemgmt.controller.IdempotencyStore;
+import com.example.employeemgmt.controller.RosterResponseCache;
 import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employee.EmployeeRevision;
+import com.example.employeemgmt.employees.EmployeeStats;
 import com.example.employeemgmt.employees.Employees;
 import com.example.employeemgmt.exception.IdExistsException;
 import com.example.employeemgmt.exception.IdNotFoundException;
@@ -26,6 +35,7 @@ import org.hamcrest.Matchers;
  * This class mocks the controller class and tests it in isolation.
  */
 @WebMvcTest(EmployeeController.class)
+@Import({IdempotencyStore.class, RosterResponseCache.class})
 public class EmployeeControllerTests {
 
     /**
@@ -191,4 +201,141 @@ public class EmployeeControllerTests {
         .andExpect(MockMvcResultMatchers.status().isNotFound())
         .andExpect(MockMvcResultMatchers.content().string("Id Not Found."));
     }
+
+    /**
+     * Test to validate a GET request with asOf returns the employees from that instant.
+     * @throws Exception
+     */
+    @Test
+    void testGetAllEmployeesAsOf() throws Exception {
+        Instant asOf = Instant.parse("2024-01-01T00:00:00Z");
+        Employees employeesMock = new Employees(List.of(new Employee(1,"sal","Sam","ssal@gmail.com","Manager")));
+        when(employeeService.getAllEmployees(asOf)).thenReturn(employeesMock);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees").param("asOf", "2024-01-01T00:00:00Z"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.employeeList[0].firstName").value("sal"));
+    }
+
+    /**
+     * Test to validate an asOf request is rejected with 400 when history is disabled.
+     */
+    @Test
+    void testGetAllEmployeesAsOfHistoryDisabled() throws Exception {
+        Instant asOf = Instant.parse("2024-01-01T00:00:00Z");
+        when(employeeService.getAllEmployees(asOf)).thenThrow(new InvalidInputException("History Is Disabled."));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees").param("asOf", "2024-01-01T00:00:00Z"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest())
+        .andExpect(MockMvcResultMatchers.content().string("History Is Disabled."));
+    }
+
+    /**
+     * Test to validate the history of an employee is returned when a GET request is sent to "/employees/{id}/history".
+     * @throws Exception
+     */
+    @Test
+    void testGetEmployeeHistorySuccessful() throws Exception {
+        List<EmployeeRevision> history = List.of(
+            new EmployeeRevision(1, Instant.parse("2024-01-01T00:00:00Z"), "CREATE", Map.of("title", "Manager")),
+            new EmployeeRevision(2, Instant.parse("2024-01-02T00:00:00Z"), "UPDATE", Map.of("title", "Architect")));
+        when(employeeService.getEmployeeHistory(1)).thenReturn(history);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees/{id}/history", 1))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$[1].changes.title").value("Architect"));
+    }
+
+    /**
+     * Test to validate 404 status is sent when history is requested for an id that does not exist.
+     * @throws Exception
+     */
+    @Test
+    void testGetEmployeeHistoryUnsuccessful() throws Exception {
+        when(employeeService.getEmployeeHistory(9)).thenThrow(new IdNotFoundException("Id Not Found."));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees/{id}/history", 9))
+        .andExpect(MockMvcResultMatchers.status().isNotFound())
+        .andExpect(MockMvcResultMatchers.content().string("Id Not Found."));
+    }
+
+    /**
+     * Test to validate the aggregate counts are returned when a GET request is sent to "/employees/stats".
+     * @throws Exception
+     */
+    @Test
+    void testGetStats() throws Exception {
+        EmployeeStats statsMock = new EmployeeStats(3, Map.of("Developer", 3L), Map.of("gmail.com", 3L), 3, 2);
+        when(employeeService.getStats()).thenReturn(statsMock);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees/stats"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.total").value(3))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.byTitle.Developer").value(3));
+    }
+
+    /**
+     * Test to validate the count for a single email domain is returned.
+     * @throws Exception
+     */
+    @Test
+    void testCountByEmailDomain() throws Exception {
+        when(employeeService.countByEmailDomain("gmail.com")).thenReturn(2L);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/employees/stats/domains/{domain}", "gmail.com"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.content().string("2"));
+    }
+
+    /**
+     * Test to validate a retried POST with the same Idempotency-Key gets the original response
+     * without the service being called again.
+     * @throws Exception
+     */
+    @Test
+    void testAddEmployeeIdempotentReplay() throws Exception {
+        Employee employeeMock = new Employee(6, "Zel", "Zimmer","zimmer@gmail.com","Manager");
+        when(employeeService.addEmployee(Mockito.any(Employee.class)))
+            .thenReturn(employeeMock)
+            .thenThrow(new IdExistsException("ID Must Be Unique."));
+
+        for(int attempt = 0; attempt < 2; attempt++) {
+            this.mockMvc
+                .perform(MockMvcRequestBuilders
+                .post("/employees")
+                .header(IdempotencyStore.HEADER, "add-6")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(employeeMock)))
+
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(6));
+        }
+        verify(employeeService, times(1)).addEmployee(Mockito.any(Employee.class));
+    }
+
+    /**
+     * Test to validate an Idempotency-Key reused with a different body is rejected with 422.
+     * @throws Exception
+     */
+    @Test
+    void testAddEmployeeIdempotencyKeyReused() throws Exception {
+        Employee employeeMock = new Employee(7, "Zel", "Zimmer","zimmer@gmail.com","Manager");
+        when(employeeService.addEmployee(Mockito.any(Employee.class))).thenReturn(employeeMock);
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+            .post("/employees")
+            .header(IdempotencyStore.HEADER, "add-7")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(employeeMock)))
+            .andExpect(MockMvcResultMatchers.status().isOk());
+
+        employeeMock.setTitle("Director");
+        this.mockMvc.perform(MockMvcRequestBuilders
+            .post("/employees")
+            .header(IdempotencyStore.HEADER, "add-7")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(employeeMock)))
+            .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+    }
 }
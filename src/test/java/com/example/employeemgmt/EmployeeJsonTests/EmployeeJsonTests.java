@@ -0,0 +1,66 @@
+package com.example.employeemgmt.EmployeeJsonTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import com.example.employeemgmt.employee.Employee;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A test class to validate the streaming serializer and deserializer produce the same JSON
+ * as the reflective databinding they replace.
+ */
+public class EmployeeJsonTests {
+
+    ObjectMapper om = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    /**
+     * Test to validate an employee is written with all fields in declaration order.
+     */
+    @Test
+    void testSerializeEmployee() throws Exception {
+        Employee employee = new Employee(4, "Crystal", "Kurt", "kurt@gmail.com", "Analyst");
+
+        assertEquals("{\"id\":4,\"firstName\":\"Crystal\",\"lastName\":\"Kurt\",\"email\":\"kurt@gmail.com\",\"title\":\"Analyst\"}",
+            om.writeValueAsString(employee));
+    }
+
+    /**
+     * Test to validate null fields are written as JSON nulls.
+     */
+    @Test
+    void testSerializeEmployeeWithNulls() throws Exception {
+        Employee employee = new Employee(null, "Crystal", null, null, null);
+
+        assertEquals("{\"id\":null,\"firstName\":\"Crystal\",\"lastName\":null,\"email\":null,\"title\":null}",
+            om.writeValueAsString(employee));
+    }
+
+    /**
+     * Test to validate an employee is read back with matching fields, ignoring unknown properties.
+     */
+    @Test
+    void testDeserializeEmployee() throws Exception {
+        Employee employee = om.readValue(
+            "{\"title\":\"Analyst\",\"id\":4,\"extra\":{\"a\":[1,2]},\"firstName\":\"Crystal\",\"lastName\":\"Kurt\",\"email\":\"kurt@gmail.com\"}",
+            Employee.class);
+
+        assertEquals(4, employee.getId());
+        assertEquals("Crystal", employee.getFirstName());
+        assertEquals("Kurt", employee.getLastName());
+        assertEquals("kurt@gmail.com", employee.getEmail());
+        assertEquals("Analyst", employee.getTitle());
+    }
+
+    /**
+     * Test to validate missing and null fields are left null and a quoted id is coerced.
+     */
+    @Test
+    void testDeserializeEmployeePartial() throws Exception {
+        Employee employee = om.readValue("{\"id\":\"7\",\"firstName\":null}", Employee.class);
+
+        assertEquals(7, employee.getId());
+        assertNull(employee.getFirstName());
+        assertNull(employee.getTitle());
+    }
+}
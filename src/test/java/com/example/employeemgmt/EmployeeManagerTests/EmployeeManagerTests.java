@@ -1,13 +1,30 @@
 package com.example.employeemgmt.EmployeeManagerTests;
 
 import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.example.employeemgmt.DAO.EmployeeHistory;
 import com.example.employeemgmt.DAO.EmployeeManager;
+import com.example.employeemgmt.DAO.EmployeeSeedProperties;
 import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employee.EmployeeRevision;
+import com.example.employeemgmt.employees.EmployeeStats;
 import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.jfr.EmployeeStoreEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 /**
  * A test class to test the DAO layer.
@@ -15,6 +32,31 @@ import com.example.employeemgmt.employees.Employees;
 public class EmployeeManagerTests {
     private EmployeeManager employeeManager;
     private Employees employees;
+    private TestClock clock;
+
+    /** A clock the history tests move forward by hand. */
+    private static final class TestClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
 
     /**
      * Setting up a mock list of employees to use before each test is run.
@@ -26,7 +68,8 @@ public class EmployeeManagerTests {
             new Employee(2,"Sue", "Matthew", "smatt@gmail.com", "Project Manager"),
             new Employee(3,"Winter", "Wong", "wwong@gmail.com", "Risk Analyst")
         )));
-        employeeManager = new EmployeeManager(employees);
+        clock = new TestClock();
+        employeeManager = new EmployeeManager(employees, new EmployeeHistory(clock, Duration.ofDays(1)));
     }
     
     /**
@@ -127,4 +170,231 @@ public class EmployeeManagerTests {
         assertFalse(employeeManager.ifExists(14));
     }
 
+    /**
+     * Test validates employees can be looked up as they were before an update.
+     */
+    @Test
+    void testGetAllEmployeesAsOfBeforeUpdate() {
+        Instant beforeUpdate = clock.instant();
+        clock.advance(Duration.ofSeconds(1));
+        employeeManager.updateEmployee(new Employee(3, "Spring", "Saint", "saint@gmail.com", "Project Manager"));
+
+        assertEquals("Winter", employeeManager.getAllEmployeesAsOf(beforeUpdate).getEmployeeList().get(2).getFirstName());
+        assertEquals("Spring", employeeManager.getAllEmployeesAsOf(clock.instant()).getEmployeeList().get(2).getFirstName());
+    }
+
+    /**
+     * Test validates a deleted employee is still returned for instants before the delete.
+     */
+    @Test
+    void testGetAllEmployeesAsOfBeforeDelete() {
+        Instant beforeDelete = clock.instant();
+        clock.advance(Duration.ofSeconds(1));
+        employeeManager.deleteEmployee(3);
+
+        assertEquals(3, employeeManager.getAllEmployeesAsOf(beforeDelete).getEmployeeList().size());
+        assertEquals(2, employeeManager.getAllEmployeesAsOf(clock.instant()).getEmployeeList().size());
+        assertEquals(0, employeeManager.getAllEmployeesAsOf(beforeDelete.minusSeconds(1)).getEmployeeList().size());
+    }
+
+    /**
+     * Test validates history lists only the fields changed by each revision.
+     */
+    @Test
+    void testGetHistoryRecordsChangedFields() {
+        clock.advance(Duration.ofSeconds(1));
+        employeeManager.updateEmployee(new Employee(3, "Winter", "Wong", "wwong@gmail.com", "Architect"));
+        clock.advance(Duration.ofSeconds(1));
+        employeeManager.deleteEmployee(3);
+
+        List<EmployeeRevision> history = employeeManager.getHistory(3);
+        assertEquals(3, history.size());
+        assertEquals(EmployeeHistory.CREATE, history.get(0).operation());
+        assertEquals(4, history.get(0).changes().size());
+        assertEquals(Map.of("title", "Architect"), history.get(1).changes());
+        assertEquals(EmployeeHistory.DELETE, history.get(2).operation());
+    }
+
+    /**
+     * Test validates revisions older than the retention window are collapsed while the current state is kept.
+     */
+    @Test
+    void testPurgeExpiredRevisions() {
+        EmployeeHistory history = new EmployeeHistory(clock, Duration.ofDays(1));
+        employeeManager = new EmployeeManager(employees, history);
+        clock.advance(Duration.ofHours(1));
+        employeeManager.updateEmployee(new Employee(3, "Spring", "Wong", "wwong@gmail.com", "Risk Analyst"));
+        clock.advance(Duration.ofHours(1));
+        employeeManager.updateEmployee(new Employee(3, "Summer", "Wong", "wwong@gmail.com", "Risk Analyst"));
+        clock.advance(Duration.ofDays(1));
+        employeeManager.deleteEmployee(2);
+        clock.advance(Duration.ofDays(2));
+        history.purgeExpired();
+
+        List<EmployeeRevision> revisions = employeeManager.getHistory(3);
+        assertEquals(1, revisions.size());
+        assertEquals(3, revisions.get(0).version());
+        assertEquals("Summer", employeeManager.getAllEmployeesAsOf(clock.instant()).getEmployeeList().get(1).getFirstName());
+        assertTrue(employeeManager.getHistory(2).isEmpty());
+    }
+
+    /**
+     * Test validates writing a record collapses its own expired revisions without waiting for the sweep.
+     */
+    @Test
+    void testWriteCollapsesExpiredRevisions() {
+        clock.advance(Duration.ofHours(1));
+        employeeManager.updateEmployee(new Employee(3, "Spring", "Wong", "wwong@gmail.com", "Risk Analyst"));
+        clock.advance(Duration.ofDays(2));
+        employeeManager.updateEmployee(new Employee(3, "Summer", "Wong", "wwong@gmail.com", "Risk Analyst"));
+
+        List<EmployeeRevision> revisions = employeeManager.getHistory(3);
+        assertEquals(2, revisions.size());
+        assertEquals(2, revisions.get(0).version());
+    }
+
+    /**
+     * Test validates title and domain counts follow adds, updates and deletes.
+     */
+    @Test
+    void testStatsFollowWrites() {
+        employeeManager.addEmployee(new Employee(4, "Joe", "Wonder", "wonder@Yahoo.com", "Developer"));
+        employeeManager.updateEmployee(new Employee(2, "Sue", "Matthew", "smatt@yahoo.com", "Developer"));
+        employeeManager.deleteEmployee(1);
+
+        EmployeeStats stats = employeeManager.getStats();
+        assertEquals(3, stats.total());
+        assertEquals(Map.of("Developer", 2L, "Risk Analyst", 1L), stats.byTitle());
+        assertEquals(Map.of("gmail.com", 1L, "yahoo.com", 2L), stats.byEmailDomain());
+        assertEquals(0, employeeManager.countByTitle("Project Manager"));
+        assertEquals(2, employeeManager.countByEmailDomain("YAHOO.com"));
+    }
+
+    /**
+     * Test validates the distinct name estimate is close to the true count for a large number of names.
+     */
+    @Test
+    void testStatsDistinctEstimate() {
+        for(int i = 4; i < 20_000; i++) {
+            employeeManager.addEmployee(new Employee(i, "First" + i, "Last" + (i % 5_000), "e" + i + "@gmail.com", "Developer"));
+        }
+
+        EmployeeStats stats = employeeManager.getStats();
+        assertEquals(20_000 - 4 + 3, stats.approxDistinctFirstNames(), 20_000 * 0.05);
+        assertEquals(5_000 + 3, stats.approxDistinctLastNames(), 5_000 * 0.05);
+    }
+
+    /**
+     * Test validates an empty list is seeded with the sample employees by default and left empty when seeding is disabled.
+     */
+    @Test
+    void testSeedEmployees() {
+        EmployeeManager seeded = new EmployeeManager(new Employees(new ArrayList<>()));
+        assertEquals(3, seeded.getAllEmployees().getEmployeeList().size());
+
+        EmployeeManager unseeded = new EmployeeManager(new Employees(new ArrayList<>()), new EmployeeHistory(),
+            new EmployeeSeedProperties(false, null));
+        assertTrue(unseeded.getAllEmployees().getEmployeeList().isEmpty());
+        assertEquals(0, unseeded.getStats().total());
+    }
+
+    /**
+     * Test validates configured seed employees are used in place of the sample employees.
+     */
+    @Test
+    void testSeedConfiguredEmployees() {
+        EmployeeManager seeded = new EmployeeManager(new Employees(new ArrayList<>()), new EmployeeHistory(),
+            new EmployeeSeedProperties(true, List.of(new Employee(9, "Joe", "Wonder", "wonder@gmail.com", "Architect"))));
+
+        assertEquals(1, seeded.getAllEmployees().getEmployeeList().size());
+        assertTrue(seeded.ifExists(9));
+    }
+
+    /**
+     * Test validates store operations are recorded as JFR events with their operation, id, outcome and store size.
+     */
+    @Test
+    void testStoreEventsRecorded(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("store.jfr");
+        try(Recording recording = new Recording()) {
+            recording.enable(EmployeeStoreEvent.class);
+            recording.start();
+            employeeManager.addEmployee(new Employee(4, "Joe", "Wonder", "wonder@gmail.com", "Architect"));
+            employeeManager.ifExists(14);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent add = events.stream().filter(e -> "ADD".equals(e.getString("operation"))).findFirst().orElseThrow();
+        assertEquals("4", add.getString("employeeId"));
+        assertEquals(4, add.getInt("storeSize"));
+        assertTrue(events.stream().anyMatch(e -> "EXISTS".equals(e.getString("operation")) && "NOT_FOUND".equals(e.getString("outcome"))));
+        assertTrue(Files.size(file) > 0);
+    }
+
+    /**
+     * Test validates the roster version changes on every write and not on reads or misses.
+     */
+    @Test
+    void testVersionChangesOnWrite() {
+        long start = employeeManager.getVersion();
+        employeeManager.findById(1);
+        employeeManager.deleteEmployee(14);
+        assertEquals(start, employeeManager.getVersion());
+
+        employeeManager.addEmployee(new Employee(4, "Joe", "Wonder", "wonder@gmail.com", "Architect"));
+        employeeManager.updateEmployee(new Employee(4, "Joe", "Wonder", "wonder@gmail.com", "Engineer"));
+        employeeManager.deleteEmployee(4);
+        assertEquals(start + 3, employeeManager.getVersion());
+    }
+
+    /**
+     * Test validates a disabled history records nothing while the store keeps working.
+     */
+    @Test
+    void testHistoryDisabled() {
+        EmployeeManager unrecorded = new EmployeeManager(new Employees(new ArrayList<>()),
+            new EmployeeHistory(clock, Duration.ofDays(1), false));
+        unrecorded.addEmployee(new Employee(4, "Joe", "Wonder", "wonder@gmail.com", "Architect"));
+
+        assertFalse(unrecorded.isHistoryEnabled());
+        assertTrue(unrecorded.getHistory(4).isEmpty());
+        assertTrue(unrecorded.ifExists(4));
+    }
+
+    /**
+     * Test validates the list returned by getAllEmployees is a snapshot later writes do not change.
+     */
+    @Test
+    void testGetAllEmployeesIsSnapshot() {
+        List<Employee> snapshot = employeeManager.getAllEmployees().getEmployeeList();
+        employeeManager.addEmployee(new Employee(4, "Joe", "Wonder", "wonder@gmail.com", "Architect"));
+        employeeManager.updateEmployee(new Employee(1, "Spring", "Saint", "saint@gmail.com", "Project Manager"));
+        employeeManager.deleteEmployee(2);
+
+        assertEquals(3, snapshot.size());
+        assertEquals("Min", snapshot.get(0).getFirstName());
+        assertEquals(2, snapshot.get(1).getId());
+    }
+
+    /**
+     * Test validates snapshots can be iterated while another thread keeps writing.
+     */
+    @Test
+    void testGetAllEmployeesDuringWrites() throws Exception {
+        Thread writer = new Thread(() -> {
+            for(int i = 100; i < 20_000; i++) {
+                employeeManager.addEmployee(new Employee(i, "First", "Last", "e" + i + "@gmail.com", "Developer"));
+                employeeManager.deleteEmployee(i - 50);
+            }
+        });
+        writer.start();
+        while(writer.isAlive()) {
+            for(Employee employee : employeeManager.getAllEmployees().getEmployeeList()) {
+                assertNotNull(employee.getId());
+            }
+        }
+        writer.join();
+    }
 }
@@ -0,0 +1,106 @@
+package com.example.employeemgmt.EmployeeRequestInterceptorTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import com.example.employeemgmt.jfr.EmployeeRequestEvent;
+import com.example.employeemgmt.jfr.EmployeeRequestInterceptor;
+import com.example.employeemgmt.service.EmployeeService;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A test class to validate the interceptor records one JFR event per request with its details.
+ */
+public class EmployeeRequestInterceptorTests {
+
+    private EmployeeService employeeService;
+    private EmployeeRequestInterceptor interceptor;
+
+    @BeforeEach
+    void setup() {
+        employeeService = mock(EmployeeService.class);
+        when(employeeService.countEmployees()).thenReturn(7);
+        interceptor = new EmployeeRequestInterceptor(employeeService);
+    }
+
+    /**
+     * Test validates a request is committed with its method, path pattern, id, status and the store size.
+     */
+    @Test
+    void testRequestEventRecorded(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("requests.jfr");
+        try(Recording recording = new Recording()) {
+            recording.enable(EmployeeRequestEvent.class);
+            recording.start();
+            MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/employees/5");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/employees/{id}");
+            request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "5"));
+            assertTrue(interceptor.preHandle(request, response, new Object()));
+            response.setStatus(404);
+            interceptor.afterCompletion(request, response, new Object(), null);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals("com.example.employeemgmt.EmployeeRequest"))
+            .toList();
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("DELETE /employees/{id}", event.getString("operation"));
+        assertEquals("5", event.getString("employeeId"));
+        assertEquals("404", event.getString("outcome"));
+        assertEquals(7, event.getInt("storeSize"));
+    }
+
+    /**
+     * Test validates a failed request is recorded with the exception type as its outcome.
+     */
+    @Test
+    void testExceptionOutcome(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("requests.jfr");
+        try(Recording recording = new Recording()) {
+            recording.enable(EmployeeRequestEvent.class);
+            recording.start();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            interceptor.preHandle(request, response, new Object());
+            interceptor.afterCompletion(request, response, new Object(), new IllegalStateException());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        RecordedEvent event = RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals("com.example.employeemgmt.EmployeeRequest"))
+            .findFirst().orElseThrow();
+        assertEquals("GET /employees", event.getString("operation"));
+        assertNull(event.getString("employeeId"));
+        assertEquals("IllegalStateException", event.getString("outcome"));
+    }
+
+    /**
+     * Test validates nothing is stored on the request when no recording has the event enabled.
+     */
+    @Test
+    void testNothingStoredWhenDisabled() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        assertFalse(request.getAttributeNames().hasMoreElements());
+        interceptor.afterCompletion(request, response, new Object(), null);
+    }
+}
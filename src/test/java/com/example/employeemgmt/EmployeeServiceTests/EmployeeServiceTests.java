@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.example.employeemgmt.DAO.EmployeeManager;
 import com.example.employeemgmt.employee.Employee;
@@ -15,6 +16,7 @@ import com.example.employeemgmt.exception.IdExistsException;
 import com.example.employeemgmt.exception.IdNotFoundException;
 import com.example.employeemgmt.exception.InvalidInputException;
 import com.example.employeemgmt.service.EmployeeService;
+import com.example.employeemgmt.validation.EmployeeValidator;
 
 /**A testing class to unit test the Service layer methods. */
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +29,10 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeManager employeeManager;
 
+    /** The real validator is used so service tests exercise the same rules as the application. */
+    @Spy
+    private EmployeeValidator employeeValidator = new EmployeeValidator();
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -89,6 +95,17 @@ public class EmployeeServiceTests {
         assertThrows(InvalidInputException.class, () -> employeeService.addEmployee(employeeToAdd));
     }
 
+    /**
+     * Test to validate add operation throws an exception if a field is missing entirely rather than blank.
+     */
+    @Test
+    void testAddEmployeeUnsuccessfulNullField() {
+        Employee employeeToAdd = new Employee(4, "Donna", null, "smith@gmail.com", "Analyst");
+        when(employeeManager.ifExists(employeeToAdd.getId())).thenReturn(false);
+
+        assertThrows(InvalidInputException.class, () -> employeeService.addEmployee(employeeToAdd));
+    }
+
     /**
      * Test to validate employee is deleted when method is called and value returend 
      * is 1 indicating one row was deleted.
@@ -143,4 +160,16 @@ public class EmployeeServiceTests {
         
         assertThrows(IdNotFoundException.class, () -> employeeService.updateEmployee(updatedEmployeeDetails));
     }
+
+    /**
+     * Test to validate update operation throws an exception if fields are invalid.
+     */
+    @Test
+    void testUpdateEmployeeUnsuccessfulField() {
+        Employee updatedEmployeeDetails = new Employee(3, "John", "Jill", "not-an-email", "Jr. Developer");
+
+        when(employeeManager.ifExists(3)).thenReturn(true);
+
+        assertThrows(InvalidInputException.class, () -> employeeService.updateEmployee(updatedEmployeeDetails));
+    }
 }
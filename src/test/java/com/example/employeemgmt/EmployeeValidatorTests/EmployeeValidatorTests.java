@@ -0,0 +1,60 @@
+package com.example.employeemgmt.EmployeeValidatorTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.exception.InvalidInputException;
+import com.example.employeemgmt.validation.EmployeeValidator;
+
+/**
+ * A test class to validate the compiled employee validation rules.
+ */
+public class EmployeeValidatorTests {
+
+    private final EmployeeValidator employeeValidator = new EmployeeValidator();
+
+    /**
+     * Test to validate a complete employee passes with no errors.
+     */
+    @Test
+    void testValidEmployee() {
+        Employee employee = new Employee(1, "Min", "Ran", "mran@gmail.com", "Developer");
+        assertTrue(employeeValidator.validate(employee).isEmpty());
+    }
+
+    /**
+     * Test to validate every failed field is reported in one pass, including missing fields.
+     */
+    @Test
+    void testEveryErrorReported() {
+        Employee employee = new Employee(null, " ", null, "mran", "Developer");
+
+        List<String> errors = employeeValidator.validate(employee);
+        assertEquals(List.of("Id Must Be Completed.", "First Name Must Be Completed.",
+            "Last Name Must Be Completed.", "Email Must Be A Valid Address."), errors);
+    }
+
+    /**
+     * Test to validate fields over the length limit are rejected.
+     */
+    @Test
+    void testLengthLimit() {
+        Employee employee = new Employee(1, "M".repeat(EmployeeValidator.MAX_NAME_LENGTH + 1), "Ran", "mran@gmail.com", "Developer");
+
+        assertEquals(List.of("First Name Must Be At Most 50 Characters."), employeeValidator.validate(employee));
+    }
+
+    /**
+     * Test to validate titles outside of the configured set are rejected.
+     */
+    @Test
+    void testAllowedTitles() {
+        EmployeeValidator restricted = new EmployeeValidator(List.of("Developer", " Architect "));
+
+        assertTrue(restricted.validate(new Employee(1, "Min", "Ran", "mran@gmail.com", "Architect")).isEmpty());
+        InvalidInputException e = assertThrows(InvalidInputException.class,
+            () -> restricted.validateOrThrow(new Employee(1, "Min", "Ran", "mran@gmail.com", "Chef")));
+        assertEquals("Title Must Be One Of Architect, Developer.", e.getMessage());
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.employeemgmt.IdempotencyStoreTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import com.example.employeemgmt.controller.IdempotencyStore;
+
+/**
+ * A test class to validate responses are replayed, coalesced and expired by the idempotency store.
+ */
+public class IdempotencyStoreTests {
+
+    /**
+     * Test validates concurrent requests with the same key run the action once and all get its response.
+     */
+    @Test
+    void testConcurrentDuplicatesCoalesced() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofMinutes(1), 100, Duration.ofSeconds(10));
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<ResponseEntity<?>> first = executor.submit(() -> store.execute("k", "POST", "body", () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new ResponseEntity<>("done", HttpStatus.OK);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<ResponseEntity<?>> second = executor.submit(() -> store.execute("k", "POST", "body", () -> {
+                runs.incrementAndGet();
+                return new ResponseEntity<>("again", HttpStatus.OK);
+            }));
+            release.countDown();
+
+            assertEquals("done", first.get(5, TimeUnit.SECONDS).getBody());
+            ResponseEntity<?> replayed = second.get(5, TimeUnit.SECONDS);
+            assertEquals("done", replayed.getBody());
+            assertEquals("true", replayed.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test validates a key runs again once its entry has expired, and the store stays within its capacity.
+     */
+    @Test
+    void testExpiryAndCapacity() {
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        Clock[] clock = {Clock.fixed(start, ZoneOffset.UTC)};
+        IdempotencyStore store = new IdempotencyStore(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return clock[0].instant();
+            }
+        }, Duration.ofMinutes(1), 3, Duration.ofSeconds(10));
+        AtomicInteger runs = new AtomicInteger();
+
+        store.execute("k", "POST", "body", () -> new ResponseEntity<>(runs.incrementAndGet(), HttpStatus.OK));
+        store.execute("k", "POST", "body", () -> new ResponseEntity<>(runs.incrementAndGet(), HttpStatus.OK));
+        assertEquals(1, runs.get());
+
+        clock[0] = Clock.fixed(start.plus(Duration.ofMinutes(2)), ZoneOffset.UTC);
+        store.execute("k", "POST", "body", () -> new ResponseEntity<>(runs.incrementAndGet(), HttpStatus.OK));
+        assertEquals(2, runs.get());
+
+        for(int i = 0; i < 10; i++) {
+            store.execute("key" + i, "POST", "body", () -> new ResponseEntity<>("ok", HttpStatus.OK));
+        }
+        assertEquals(3, store.size());
+    }
+
+    /**
+     * Test validates a request still running is not evicted for capacity, so its duplicate does not run it again.
+     */
+    @Test
+    void testRunningEntryNotEvicted() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofMinutes(1), 1, Duration.ofSeconds(10));
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<?>> first = executor.submit(() -> store.execute("k", "POST", "body", () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new ResponseEntity<>("done", HttpStatus.OK);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            store.execute("other", "POST", "body", () -> new ResponseEntity<>("ok", HttpStatus.OK));
+            store.execute("another", "POST", "body", () -> new ResponseEntity<>("ok", HttpStatus.OK));
+
+            Future<ResponseEntity<?>> duplicate = executor.submit(() -> store.execute("k", "POST", "body", () -> {
+                runs.incrementAndGet();
+                return new ResponseEntity<>("again", HttpStatus.OK);
+            }));
+            release.countDown();
+
+            assertEquals("done", first.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals("done", duplicate.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test validates a duplicate gives up with 409 when the original request runs past the wait timeout.
+     */
+    @Test
+    void testDuplicateTimesOutWhileRunning() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofMinutes(1), 100, Duration.ofMillis(100));
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            Future<ResponseEntity<?>> first = executor.submit(() -> store.execute("k", "POST", "body", () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new ResponseEntity<>("done", HttpStatus.OK);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            ResponseEntity<?> duplicate = store.execute("k", "POST", "body", () -> {
+                runs.incrementAndGet();
+                return new ResponseEntity<>("again", HttpStatus.OK);
+            });
+            assertEquals(HttpStatus.CONFLICT, duplicate.getStatusCode());
+            assertEquals("Request With This Idempotency-Key Is Still In Progress.", duplicate.getBody());
+
+            release.countDown();
+            assertEquals("done", first.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals("done", store.execute("k", "POST", "body", () -> new ResponseEntity<>("again", HttpStatus.OK)).getBody());
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
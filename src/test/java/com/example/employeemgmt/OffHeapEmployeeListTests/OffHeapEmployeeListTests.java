@@ -0,0 +1,199 @@
+package com.example.employeemgmt.OffHeapEmployeeListTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.example.employeemgmt.DAO.EmployeeManager;
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employees.Employees;
+import com.example.employeemgmt.employees.OffHeapEmployeeList;
+
+/**
+ * A test class to validate the off-heap employee list behaves like the ArrayList it replaces.
+ */
+public class OffHeapEmployeeListTests {
+
+    private OffHeapEmployeeList employeeList;
+
+    /**
+     * Setting up a small list before each test so tests also exercise growing the segments.
+     */
+    @BeforeEach
+    void setup() {
+        employeeList = new OffHeapEmployeeList(1024);
+        employeeList.add(new Employee(1,"Min", "Ran", "mran@gmail.com", "Developer"));
+        employeeList.add(new Employee(2,"Sue", "Matthew", "smatt@gmail.com", "Project Manager"));
+        employeeList.add(new Employee(3,"Winter", "Wong", "wwong@gmail.com", "Risk Analyst"));
+    }
+
+    /**
+     * Test validates employees are decoded with the fields they were added with, including nulls and non ASCII text.
+     */
+    @Test
+    void testAddAndGet() {
+        employeeList.add(new Employee(4, "Zoë", null, "zoe@gmail.com", "Développeur"));
+
+        assertEquals(4, employeeList.size());
+        assertEquals("Sue", employeeList.get(1).getFirstName());
+        Employee added = employeeList.get(3);
+        assertEquals(4, added.getId());
+        assertEquals("Zoë", added.getFirstName());
+        assertNull(added.getLastName());
+        assertEquals("Développeur", added.getTitle());
+    }
+
+    /**
+     * Test validates removing an employee keeps the order of the rest and updates the id index.
+     */
+    @Test
+    void testRemoveKeepsOrderAndIndex() {
+        Employee removed = employeeList.remove(0);
+
+        assertEquals(1, removed.getId());
+        assertEquals(2, employeeList.size());
+        assertEquals(-1, employeeList.indexOfId(1));
+        assertEquals(0, employeeList.indexOfId(2));
+        assertEquals(1, employeeList.indexOfId(3));
+        assertEquals("Winter", employeeList.get(1).getFirstName());
+    }
+
+    /**
+     * Test validates replacing an employee is seen by later reads.
+     */
+    @Test
+    void testSetReplacesEmployee() {
+        Employee previous = employeeList.set(2, new Employee(3, "Spring", "Saint", "saint@gmail.com", "Architect"));
+
+        assertEquals("Winter", previous.getFirstName());
+        assertEquals("Spring", employeeList.get(2).getFirstName());
+        assertEquals(2, employeeList.indexOfId(3));
+    }
+
+    /**
+     * Test validates many writes grow the segments and compaction reclaims replaced slots without losing employees.
+     */
+    @Test
+    void testGrowthAndCompaction() {
+        for(int i = 4; i < 5_000; i++) {
+            employeeList.add(new Employee(i, "First" + i, "Last" + i, "e" + i + "@gmail.com", "Developer"));
+        }
+        for(int round = 0; round < 5; round++) {
+            for(int i = 1; i < 5_000; i++) {
+                employeeList.set(employeeList.indexOfId(i), new Employee(i, "Round" + round, "Last" + i, "e" + i + "@gmail.com", "Developer"));
+            }
+        }
+        for(int i = 1; i < 5_000; i += 2) {
+            employeeList.remove(employeeList.indexOfId(i));
+        }
+
+        assertEquals(2_499, employeeList.size());
+        assertTrue(employeeList.dataBytes() < 2_499L * 200);
+        for(int i = 2; i < 5_000; i += 2) {
+            Employee employee = employeeList.get(employeeList.indexOfId(i));
+            assertEquals(i, employee.getId());
+            assertEquals("Round4", employee.getFirstName());
+        }
+    }
+
+    /**
+     * Test validates the id index stays sized to the live roster while new ids replace old ones.
+     */
+    @Test
+    void testIndexBoundedUnderChurn() {
+        for(int i = 4; i <= 1_000; i++) {
+            employeeList.add(new Employee(i, "First" + i, "Last" + i, "e" + i + "@gmail.com", "Developer"));
+        }
+        for(int i = 1_001; i <= 50_000; i++) {
+            employeeList.add(new Employee(i, "First" + i, "Last" + i, "e" + i + "@gmail.com", "Developer"));
+            employeeList.remove(employeeList.indexOfId(i - 1_000));
+        }
+
+        assertEquals(1_000, employeeList.size());
+        assertTrue(employeeList.indexBytes() <= 16L * 8_192);
+        assertEquals(-1, employeeList.indexOfId(49_000));
+        assertEquals(50_000, employeeList.get(employeeList.indexOfId(50_000)).getId());
+        assertEquals(0, employeeList.indexOfId(49_001));
+    }
+
+    /**
+     * Test validates the list works the same when backed by a memory-mapped file.
+     */
+    @Test
+    void testMappedFile(@TempDir Path dir) throws Exception {
+        OffHeapEmployeeList mapped = OffHeapEmployeeList.mapped(dir.resolve("employees.dat"), 1024);
+        List<Employee> expected = new ArrayList<>();
+        for(int i = 0; i < 1_000; i++) {
+            Employee employee = new Employee(i, "First" + i, "Last" + i, "e" + i + "@gmail.com", "Developer");
+            mapped.add(employee);
+            expected.add(employee);
+        }
+
+        assertEquals(1_000, mapped.size());
+        assertEquals(expected.get(999).toString(), mapped.get(999).toString());
+        assertEquals(500, mapped.indexOfId(500));
+    }
+
+    /**
+     * Test validates a snapshot keeps the employees it was taken with through replacements, removals and compaction.
+     */
+    @Test
+    void testSnapshotUnchangedByWrites() {
+        for(int i = 4; i < 2_000; i++) {
+            employeeList.add(new Employee(i, "First" + i, "Last" + i, "e" + i + "@gmail.com", "Developer"));
+        }
+        List<Employee> snapshot = employeeList.snapshot();
+        for(int round = 0; round < 5; round++) {
+            for(int i = 1; i < 2_000; i++) {
+                employeeList.set(employeeList.indexOfId(i), new Employee(i, "Round" + round, "Last" + i, "e" + i + "@gmail.com", "Developer"));
+            }
+        }
+        employeeList.remove(0);
+        employeeList.clear();
+        employeeList.add(new Employee(5_000, "After", "Clear", "after@gmail.com", "Developer"));
+
+        assertEquals(1_999, snapshot.size());
+        assertEquals("Min", snapshot.get(0).getFirstName());
+        assertEquals("First1999", snapshot.get(1_998).getFirstName());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(employeeList.get(0)));
+        assertEquals("After", employeeList.get(0).getFirstName());
+    }
+
+    /**
+     * Test validates a snapshot of a memory-mapped list stays readable after compaction moves the data to a new file.
+     */
+    @Test
+    void testMappedSnapshotSurvivesCompaction(@TempDir Path dir) throws Exception {
+        OffHeapEmployeeList mapped = OffHeapEmployeeList.mapped(dir.resolve("employees.dat"), 1024);
+        for(int i = 0; i < 2_000; i++) {
+            mapped.add(new Employee(i, "First" + i, "Last" + i, "e" + i + "@gmail.com", "Developer"));
+        }
+        List<Employee> snapshot = mapped.snapshot();
+        for(int round = 0; round < 5; round++) {
+            for(int i = 0; i < 2_000; i++) {
+                mapped.set(i, new Employee(i, "Round" + round, "Last" + i, "e" + i + "@gmail.com", "Developer"));
+            }
+        }
+
+        assertEquals("First1500", snapshot.get(1_500).getFirstName());
+        assertEquals("Round4", mapped.get(1_500).getFirstName());
+        assertTrue(mapped.dataBytes() < 2_000L * 200);
+    }
+
+    /**
+     * Test validates updates made through EmployeeManager are written back to the off-heap list.
+     */
+    @Test
+    void testEmployeeManagerUpdate() {
+        EmployeeManager employeeManager = new EmployeeManager(new Employees(employeeList));
+        employeeManager.updateEmployee(new Employee(2, "Sue", "Matthew", "smatt@gmail.com", "Architect"));
+        employeeManager.deleteEmployee(1);
+
+        assertEquals("Architect", employeeManager.findById(2).getTitle());
+        assertFalse(employeeManager.ifExists(1));
+        assertEquals(2, employeeManager.getAllEmployees().getEmployeeList().size());
+    }
+}
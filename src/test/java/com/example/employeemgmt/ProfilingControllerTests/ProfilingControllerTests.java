@@ -0,0 +1,118 @@
+package com.example.employeemgmt.ProfilingControllerTests;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.example.employeemgmt.controller.ProfilingController;
+import com.example.employeemgmt.exception.InvalidInputException;
+import com.example.employeemgmt.jfr.JfrRecordingService;
+import com.example.employeemgmt.service.EmployeeService;
+
+/**
+ * This class mocks the recording service and tests the profiling controller in isolation.
+ */
+@WebMvcTest(controllers = ProfilingController.class, properties = "employee.jfr.recordings.enabled=true")
+public class ProfilingControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SuppressWarnings("removal")
+    @MockBean
+    private JfrRecordingService jfrRecordingService;
+
+    /** Needed by the JFR request interceptor the web layer registers. */
+    @SuppressWarnings("removal")
+    @MockBean
+    private EmployeeService employeeService;
+
+    /**
+     * Test validates a finished recording is returned as a download and its file is deleted.
+     */
+    @Test
+    void testRecordingReturned(@TempDir Path dir) throws Exception {
+        Path file = Files.write(dir.resolve("employeemgmt-1.jfr"), new byte[] {1, 2, 3});
+        when(jfrRecordingService.record(Duration.ofSeconds(1), "default")).thenReturn(CompletableFuture.completedFuture(file));
+
+        MvcResult started = this.mockMvc.perform(MockMvcRequestBuilders.post("/admin/jfr/recordings")
+            .param("duration", "PT1S").param("settings", "default"))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().string("Content-Disposition", "attachment; filename=\"employeemgmt-1.jfr\""))
+        .andExpect(MockMvcResultMatchers.content().bytes(new byte[] {1, 2, 3}));
+        assertThat(file).doesNotExist();
+    }
+
+    /**
+     * Test validates the request outlives recordings longer than the container's 30 second default async timeout.
+     */
+    @Test
+    void testTimeoutCoversRecording() throws Exception {
+        when(jfrRecordingService.record(Duration.ofMinutes(2), "profile")).thenReturn(new CompletableFuture<>());
+
+        MvcResult started = this.mockMvc.perform(MockMvcRequestBuilders.post("/admin/jfr/recordings").param("duration", "PT2M"))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofSeconds(150).toMillis());
+    }
+
+    /**
+     * Test validates an invalid duration or settings is rejected with 400.
+     */
+    @Test
+    void testInvalidRequest() throws Exception {
+        when(jfrRecordingService.record(Duration.ofHours(1), "profile"))
+            .thenThrow(new InvalidInputException("Duration Must Be Between 0 And PT5M."));
+
+        MvcResult started = this.mockMvc.perform(MockMvcRequestBuilders.post("/admin/jfr/recordings").param("duration", "PT1H"))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest())
+        .andExpect(MockMvcResultMatchers.content().string("Duration Must Be Between 0 And PT5M."));
+    }
+
+    /**
+     * Test validates a second recording while one is running is rejected with 409.
+     */
+    @Test
+    void testRecordingAlreadyRunning() throws Exception {
+        when(jfrRecordingService.record(Duration.ofSeconds(30), "profile"))
+            .thenThrow(new IllegalStateException("A Recording Is Already Running."));
+
+        MvcResult started = this.mockMvc.perform(MockMvcRequestBuilders.post("/admin/jfr/recordings"))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+        .andExpect(MockMvcResultMatchers.status().isConflict())
+        .andExpect(MockMvcResultMatchers.content().string("A Recording Is Already Running."));
+    }
+
+    /**
+     * Test validates the endpoint and its service are not created unless enabled.
+     */
+    @Test
+    void testDisabledByDefault() {
+        new ApplicationContextRunner()
+            .withUserConfiguration(ProfilingController.class, JfrRecordingService.class)
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(ProfilingController.class);
+                assertThat(context).doesNotHaveBean(JfrRecordingService.class);
+            });
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.employeemgmt.RosterResponseCacheTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import com.example.employeemgmt.controller.RosterResponseCache;
+import com.example.employeemgmt.employee.Employee;
+import com.example.employeemgmt.employees.Employees;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A test class to validate the roster cache compresses the roster once per version.
+ */
+public class RosterResponseCacheTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Test validates the cached body is the gzipped JSON of the roster and is reused until the version changes.
+     */
+    @Test
+    void testGzippedOncePerVersion() throws IOException {
+        RosterResponseCache cache = new RosterResponseCache(objectMapper, true);
+        List<Employee> list = new ArrayList<>(List.of(new Employee(1, "John", "Doe", "jdoe@example.com", "Engineer")));
+        Employees employees = new Employees(list);
+        AtomicLong version = new AtomicLong();
+        AtomicInteger builds = new AtomicInteger();
+
+        RosterResponseCache.Body first = cache.gzipped(version::get, () -> { builds.incrementAndGet(); return employees; });
+        RosterResponseCache.Body second = cache.gzipped(version::get, () -> { builds.incrementAndGet(); return employees; });
+
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+        assertEquals(0, first.version());
+        assertEquals(objectMapper.writeValueAsString(employees), gunzip(first.gzip()));
+
+        list.add(new Employee(2, "Jane", "Roe", "jroe@example.com", "Manager"));
+        version.incrementAndGet();
+        RosterResponseCache.Body third = cache.gzipped(version::get, () -> { builds.incrementAndGet(); return employees; });
+
+        assertEquals(2, builds.get());
+        assertEquals(1, third.version());
+        assertEquals(objectMapper.writeValueAsString(employees), gunzip(third.gzip()));
+    }
+
+    /**
+     * Test validates a body built while the roster changed is returned but not cached.
+     */
+    @Test
+    void testNotCachedWhenVersionChangesDuringBuild() {
+        RosterResponseCache cache = new RosterResponseCache(objectMapper, true);
+        Employees employees = new Employees(new ArrayList<>());
+        AtomicLong version = new AtomicLong();
+        AtomicInteger builds = new AtomicInteger();
+
+        cache.gzipped(version::get, () -> { builds.incrementAndGet(); version.incrementAndGet(); return employees; });
+        cache.gzipped(() -> 0, () -> { builds.incrementAndGet(); return employees; });
+
+        assertEquals(2, builds.get());
+    }
+
+    /**
+     * Test validates requests arriving while a new body is built get the previous body instead of waiting.
+     */
+    @Test
+    void testPreviousBodyServedWhileBuilding() throws Exception {
+        RosterResponseCache cache = new RosterResponseCache(objectMapper, true);
+        Employees employees = new Employees(new ArrayList<>());
+        AtomicLong version = new AtomicLong();
+        RosterResponseCache.Body previous = cache.gzipped(version::get, () -> employees);
+        version.incrementAndGet();
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<RosterResponseCache.Body> rebuilt = executor.submit(() -> cache.gzipped(version::get, () -> {
+                building.countDown();
+                await(release);
+                return employees;
+            }));
+            assertTrue(building.await(5, TimeUnit.SECONDS));
+
+            assertSame(previous, cache.gzipped(version::get, () -> fail("Only one request should build")));
+            release.countDown();
+            assertEquals(1, rebuilt.get(5, TimeUnit.SECONDS).version());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test validates ETags differ per encoding and per instance, and If-None-Match lists and weak tags match.
+     */
+    @Test
+    void testEtags() {
+        RosterResponseCache cache = new RosterResponseCache(objectMapper, true);
+        RosterResponseCache restarted = new RosterResponseCache(objectMapper, true);
+        String etag = cache.etag(3, false);
+
+        assertNotEquals(etag, cache.etag(3, true));
+        assertNotEquals(etag, restarted.etag(3, false));
+        assertTrue(cache.matches("\"other\", W/" + etag, etag));
+        assertTrue(cache.matches("*", etag));
+        assertFalse(cache.matches(restarted.etag(3, false), etag));
+        assertFalse(cache.matches(null, etag));
+    }
+
+    /**
+     * Test validates Accept-Encoding is read with its q-values rather than by searching for "gzip".
+     */
+    @Test
+    void testAcceptsGzip() {
+        RosterResponseCache cache = new RosterResponseCache(objectMapper, true);
+
+        assertTrue(cache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(cache.acceptsGzip("deflate;q=1.0, GZIP;q=0.5"));
+        assertTrue(cache.acceptsGzip("*"));
+        assertFalse(cache.acceptsGzip("gzip;q=0"));
+        assertFalse(cache.acceptsGzip("gzip; q=0.000, *"));
+        assertFalse(cache.acceptsGzip("*;q=0"));
+        assertFalse(cache.acceptsGzip("identity, x-gzipped"));
+        assertFalse(cache.acceptsGzip(null));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try(GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes());
+        }
+    }
+}